@@ -0,0 +1,58 @@
+package seedu.multitasky.commons.util.match;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+import seedu.multitasky.testutil.SyntheticEntryBookBuilder;
+
+/**
+ * Measures {@link PowerMatch#isMatch(int, String, String)} at every level over the search keys of
+ * {@code size} entries, for a keyword with typos that matches few of them, as in most power searches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PowerMatchBenchmark {
+
+    // JMH sets the parameters through public fields.
+    // CHECKSTYLE.OFF: VisibilityModifier
+    @Param({ "1000", "10000", "100000" })
+    public int size;
+
+    @Param({ "0", "1", "2", "3", "4", "5", "6" })
+    public int level;
+
+    @Param({ "mteeign" })
+    public String keyword;
+    // CHECKSTYLE.ON: VisibilityModifier
+
+    private final PowerMatch powerMatch = new PowerMatch();
+    private String[] searchKeys;
+
+    @Setup
+    public void setUp() throws Exception {
+        searchKeys = new SyntheticEntryBookBuilder(size).withEntries(size).build().getAllEntries().stream()
+                .map(ReadOnlyEntry::getSearchKey).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public int isMatch() {
+        int matches = 0;
+        for (String searchKey : searchKeys) {
+            if (powerMatch.isMatch(level, keyword, searchKey)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+}
@@ -0,0 +1,35 @@
+package seedu.multitasky.logic.parser;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.multitasky.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing the dates typed into commands, in a fixed format and as relative phrases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParserUtilBenchmark {
+
+    // JMH sets the parameters through public fields.
+    // CHECKSTYLE.OFF: VisibilityModifier
+    @Param({ "12/05/2030 10:00", "tomorrow 5pm", "next friday" })
+    public String date;
+    // CHECKSTYLE.ON: VisibilityModifier
+
+    @Benchmark
+    public Calendar parseDate() throws ParseException {
+        return ParserUtil.parseDate(date);
+    }
+
+}
@@ -0,0 +1,63 @@
+package seedu.multitasky.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.multitasky.model.entry.Entry;
+import seedu.multitasky.model.util.EntryBuilder;
+import seedu.multitasky.testutil.SyntheticEntryBookBuilder;
+
+/**
+ * Measures adding an entry to, and resetting the data of, an entry book of {@code size} entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntryBookBenchmark {
+
+    // JMH sets the parameters through public fields.
+    // CHECKSTYLE.OFF: VisibilityModifier
+    @Param({ "1000", "10000", "100000" })
+    public int size;
+    // CHECKSTYLE.ON: VisibilityModifier
+
+    private EntryBook source;
+    private EntryBook entryBook;
+    private int added;
+
+    @Setup(Level.Trial)
+    public void setUpSource() throws Exception {
+        source = new SyntheticEntryBookBuilder(size).withEntries(size).build();
+    }
+
+    /**
+     * Starts every iteration from a copy of the source, as the entries added by each iteration are kept.
+     */
+    @Setup(Level.Iteration)
+    public void setUpEntryBook() {
+        entryBook = new EntryBook(source);
+    }
+
+    @Benchmark
+    public EntryBook addEntry() throws Exception {
+        Entry entry = EntryBuilder.build("added entry " + added++, "tag0");
+        entryBook.addEntry(entry);
+        return entryBook;
+    }
+
+    @Benchmark
+    public EntryBook resetData() {
+        entryBook.resetData(source);
+        return entryBook;
+    }
+
+}
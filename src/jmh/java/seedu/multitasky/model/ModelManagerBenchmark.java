@@ -0,0 +1,67 @@
+package seedu.multitasky.model;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.multitasky.model.Model.Search;
+import seedu.multitasky.model.entry.Entry;
+import seedu.multitasky.testutil.SyntheticEntryBookBuilder;
+
+/**
+ * Measures updating the filtered lists of a model with {@code size} entries, as done by the find and list
+ * commands: a find that matches a few entries by substring, a find that only matches with typos, and listing
+ * every active entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModelManagerBenchmark {
+
+    // JMH sets the parameters through public fields.
+    // CHECKSTYLE.OFF: VisibilityModifier
+    @Param({ "1000", "10000", "100000" })
+    public int size;
+    // CHECKSTYLE.ON: VisibilityModifier
+
+    private ModelManager modelManager;
+    private Set<String> keywords;
+    private Set<String> misspeltKeywords;
+
+    @Setup
+    public void setUp() throws Exception {
+        EntryBook entryBook = new SyntheticEntryBookBuilder(size).withEntries(size).build();
+        modelManager = new ModelManager(entryBook, new UserPrefs());
+        keywords = new HashSet<>(Arrays.asList("meeting", "999"));
+        misspeltKeywords = new HashSet<>(Arrays.asList("mteeign"));
+    }
+
+    @Benchmark
+    public ModelManager updateAllFilteredListsFind() {
+        modelManager.updateAllFilteredLists(keywords, null, null, Entry.State.ACTIVE, Model.LENIENT_SEARCHES);
+        return modelManager;
+    }
+
+    @Benchmark
+    public ModelManager updateAllFilteredListsPowerFind() {
+        modelManager.updateAllFilteredLists(misspeltKeywords, null, null, Entry.State.ACTIVE, Search.POWER_AND);
+        return modelManager;
+    }
+
+    @Benchmark
+    public ModelManager updateAllFilteredListsShowAll() {
+        modelManager.updateAllFilteredListToShowAllActiveEntries();
+        return modelManager;
+    }
+
+}
@@ -0,0 +1,105 @@
+package seedu.multitasky.model.entry;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.multitasky.commons.exceptions.IllegalValueException;
+import seedu.multitasky.model.util.TagSetBuilder;
+
+/**
+ * Measures {@link EventList#hasOverlappingEvent(ReadOnlyEntry)}, which queries the interval tree of active
+ * events, against the linear scan over every event that it replaces, for {@value #QUERIES} queries.
+ * The calendar holds about one event per day, each lasting one to three hours, and is queried with
+ * random two hour windows, so most queries have no overlapping event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(jvmArgsAppend = "-Xmx2g")
+public class EventListOverlapBenchmark {
+
+    private static final int QUERIES = 200;
+    private static final long HOUR_IN_MILLIS = 60 * 60 * 1000L;
+    private static final long DAY_IN_MILLIS = 24 * HOUR_IN_MILLIS;
+
+    // JMH sets the parameters through public fields.
+    // CHECKSTYLE.OFF: VisibilityModifier
+    @Param({ "10000", "100000", "1000000" })
+    public int size;
+    // CHECKSTYLE.ON: VisibilityModifier
+
+    private List<Event> events;
+    private EventList eventList;
+    private List<Event> queries;
+
+    @Setup
+    public void setUp() throws Exception {
+        Random random = new Random(size);
+        long origin = Calendar.getInstance().getTimeInMillis();
+        long span = size * DAY_IN_MILLIS;
+
+        events = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            long start = origin + (long) (random.nextDouble() * span);
+            events.add(buildEvent("event " + i, start, start + HOUR_IN_MILLIS * (1 + random.nextInt(3))));
+        }
+        eventList = new EventList();
+        eventList.setEntries(events);
+
+        queries = new ArrayList<>(QUERIES);
+        for (int i = 0; i < QUERIES; ++i) {
+            long start = origin + (long) (random.nextDouble() * span);
+            queries.add(buildEvent("query " + i, start, start + 2 * HOUR_IN_MILLIS));
+        }
+    }
+
+    @Benchmark
+    public int intervalTree() {
+        int hits = 0;
+        for (Event query : queries) {
+            if (eventList.hasOverlappingEvent(query)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * The linear scan previously done by {@link EventList#hasOverlappingEvent(ReadOnlyEntry)}.
+     */
+    @Benchmark
+    public int linearScan() {
+        int hits = 0;
+        for (Event query : queries) {
+            for (Event existingEvent : events) {
+                if (existingEvent.isActive() && existingEvent.overlapsWith(query)) {
+                    hits++;
+                    break;
+                }
+            }
+        }
+        return hits;
+    }
+
+    private static Event buildEvent(String name, long startMillis, long endMillis) throws IllegalValueException {
+        Calendar start = Calendar.getInstance();
+        start.setTimeInMillis(startMillis);
+        Calendar end = Calendar.getInstance();
+        end.setTimeInMillis(endMillis);
+        return new Event(new Name(name), start, end, TagSetBuilder.getTagSet("benchmark"));
+    }
+
+}
@@ -0,0 +1,68 @@
+package seedu.multitasky.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.multitasky.commons.exceptions.DataConversionException;
+import seedu.multitasky.model.EntryBook;
+import seedu.multitasky.model.ReadOnlyEntryBook;
+import seedu.multitasky.testutil.SyntheticEntryBookBuilder;
+
+/**
+ * Measures saving an entry book of {@code size} entries to an XML file, and reading it back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class XmlEntryBookStorageBenchmark {
+
+    // JMH sets the parameters through public fields.
+    // CHECKSTYLE.OFF: VisibilityModifier
+    @Param({ "1000", "10000", "100000" })
+    public int size;
+    // CHECKSTYLE.ON: VisibilityModifier
+
+    private EntryBook entryBook;
+    private File saveFile;
+    private File loadFile;
+    private XmlEntryBookStorage storage;
+
+    @Setup
+    public void setUp() throws Exception {
+        entryBook = new SyntheticEntryBookBuilder(size).withEntries(size).build();
+        saveFile = File.createTempFile("entrybook-save", ".xml");
+        loadFile = File.createTempFile("entrybook-load", ".xml");
+        storage = new XmlEntryBookStorage(saveFile.getPath());
+        storage.saveEntryBook(entryBook, loadFile.getPath());
+    }
+
+    @TearDown
+    public void tearDown() {
+        saveFile.delete();
+        loadFile.delete();
+    }
+
+    @Benchmark
+    public File saveEntryBook() throws IOException {
+        storage.saveEntryBook(entryBook, saveFile.getPath());
+        return saveFile;
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyEntryBook> readEntryBook() throws DataConversionException, IOException {
+        return storage.readEntryBook(loadFile.getPath());
+    }
+
+}
@@ -0,0 +1,59 @@
+package seedu.multitasky.storage.util;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.multitasky.commons.exceptions.IllegalValueException;
+
+/**
+ * Measures converting the dates of one entry to and from the stored form, against the {@code SimpleDateFormat}
+ * converter that was created for every entry before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StorageDateConverterBenchmark {
+
+    private static final String STORED_DATE = "12/05/30 10:00";
+    private static final String PATTERN = "dd/MM/yy HH:mm";
+
+    private final Calendar date = new GregorianCalendar(2030, Calendar.MAY, 12, 10, 0);
+
+    @Benchmark
+    public Calendar convertStringToDate() throws IllegalValueException {
+        return StorageDateConverter.INSTANCE.convertStringToDate(STORED_DATE);
+    }
+
+    @Benchmark
+    public String convertDateToString() {
+        return StorageDateConverter.INSTANCE.convertDateToString(date);
+    }
+
+    @Benchmark
+    public Calendar convertStringToDate_simpleDateFormat() throws ParseException {
+        DateFormat formatter = new SimpleDateFormat(PATTERN);
+        formatter.setLenient(false);
+        Calendar converted = Calendar.getInstance();
+        converted.setTime(formatter.parse(STORED_DATE));
+        return converted;
+    }
+
+    @Benchmark
+    public String convertDateToString_simpleDateFormat() {
+        DateFormat formatter = new SimpleDateFormat(PATTERN);
+        formatter.setLenient(false);
+        return formatter.format(date.getTime());
+    }
+
+}
@@ -0,0 +1,117 @@
+package seedu.multitasky.ui;
+
+import java.util.Calendar;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testfx.api.FxToolkit;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+import seedu.multitasky.testutil.SyntheticEntryBookBuilder;
+
+/**
+ * Measures the frame time of scrolling the event list panel through 50,000 events a page at a time: the time to
+ * scroll, update the cells, and apply CSS and lay out the panel on the JavaFX application thread.
+ * Half of the events have already started, so cards switch between overdue and not as the list scrolls.
+ * {@code reusedCard} uses the panel's own cells, and {@code cardPerUpdate} loads a new card for every update,
+ * as the cells used to.
+ * Like the GUI tests, it needs a display to show the panel on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListPanelScrollBenchmark {
+
+    private static final int EVENTS = 50000;
+    private static final int WIDTH = 600;
+    private static final int HEIGHT = 720;
+    /** The number of 120-pixel cards that fit in the panel. */
+    private static final int ROWS_PER_PAGE = HEIGHT / 120;
+
+    // JMH sets the parameters through public fields.
+    // CHECKSTYLE.OFF: VisibilityModifier
+    @Param({ "reusedCard", "cardPerUpdate" })
+    public String cells;
+    // CHECKSTYLE.ON: VisibilityModifier
+
+    private Scene scene;
+    private ListView<ReadOnlyEntry> listView;
+    private int firstRow;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Calendar startDate = Calendar.getInstance();
+        startDate.add(Calendar.HOUR_OF_DAY, -EVENTS / 2);
+        ObservableList<ReadOnlyEntry> events = new SyntheticEntryBookBuilder(1).withEvents(EVENTS)
+                .withStartDate(startDate).build().getEventList();
+
+        FxToolkit.registerPrimaryStage();
+        FxToolkit.setupStage(stage -> {
+            EventListPanel panel = new EventListPanel(events);
+            listView = getListView(panel);
+            if (cells.equals("cardPerUpdate")) {
+                listView.setCellFactory(unused -> new CardPerUpdateCell());
+            }
+            scene = new Scene(panel.getRoot(), WIDTH, HEIGHT);
+            stage.setScene(scene);
+        });
+        FxToolkit.showStage();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        FxToolkit.cleanupStages();
+    }
+
+    @Benchmark
+    public void scrollOnePage() throws Exception {
+        firstRow = (firstRow + ROWS_PER_PAGE) % EVENTS;
+        int row = firstRow;
+        FutureTask<Void> frame = new FutureTask<>(() -> {
+            listView.scrollTo(row);
+            scene.getRoot().applyCss();
+            scene.getRoot().layout();
+            return null;
+        });
+        Platform.runLater(frame);
+        frame.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ListView<ReadOnlyEntry> getListView(EventListPanel panel) {
+        return (ListView<ReadOnlyEntry>) panel.getRoot().lookup("#eventListView");
+    }
+
+    /**
+     * A cell that loads a new card for every entry it shows.
+     */
+    private static class CardPerUpdateCell extends ListCell<ReadOnlyEntry> {
+        @Override
+        protected void updateItem(ReadOnlyEntry entry, boolean empty) {
+            super.updateItem(entry, empty);
+            if (empty || entry == null) {
+                setGraphic(null);
+            } else {
+                EventCard card = new EventCard();
+                card.bind(entry, getIndex() + 1);
+                setGraphic(card.getRoot());
+            }
+        }
+    }
+
+}
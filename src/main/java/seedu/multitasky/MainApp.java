@@ -15,24 +15,27 @@ import seedu.multitasky.commons.core.EventsCenter;
 import seedu.multitasky.commons.core.LogsCenter;
 import seedu.multitasky.commons.core.Version;
 import seedu.multitasky.commons.events.model.EntryBookChangedEvent;
-import seedu.multitasky.commons.events.ui.DeleteAllSnapshotsOnStartup;
 import seedu.multitasky.commons.events.ui.ExitAppRequestEvent;
 import seedu.multitasky.commons.exceptions.DataConversionException;
 import seedu.multitasky.commons.util.ConfigUtil;
 import seedu.multitasky.commons.util.StringUtil;
 import seedu.multitasky.logic.Logic;
 import seedu.multitasky.logic.LogicManager;
+import seedu.multitasky.logic.parser.DateParsingService;
 import seedu.multitasky.model.EntryBook;
 import seedu.multitasky.model.Model;
 import seedu.multitasky.model.ModelManager;
 import seedu.multitasky.model.ReadOnlyEntryBook;
+import seedu.multitasky.model.UndoHistory;
 import seedu.multitasky.model.UserPrefs;
 import seedu.multitasky.storage.EntryBookStorage;
+import seedu.multitasky.storage.JournalEntryBookStorage;
 import seedu.multitasky.storage.JsonUserPrefsStorage;
 import seedu.multitasky.storage.Storage;
 import seedu.multitasky.storage.StorageManager;
 import seedu.multitasky.storage.UserPrefsStorage;
-import seedu.multitasky.storage.XmlEntryBookStorage;
+import seedu.multitasky.storage.XmlUndoHistoryStorage;
+import seedu.multitasky.ui.StatusBarFooter;
 import seedu.multitasky.ui.Ui;
 import seedu.multitasky.ui.UiManager;
 
@@ -51,17 +54,19 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
     protected UserPrefs userPrefs;
+    protected UndoHistory undoHistory;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing EntryBook ]===========================");
         super.init();
+        DateParsingService.getInstance().prewarm();
 
         config = initConfig(getApplicationParameter("config"));
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        EntryBookStorage entryBookStorage = new XmlEntryBookStorage(userPrefs.getEntryBookFilePath());
+        EntryBookStorage entryBookStorage = new JournalEntryBookStorage(userPrefs.getEntryBookFilePath());
         storage = new StorageManager(entryBookStorage, userPrefsStorage, userPrefs);
 
         initLogging(config);
@@ -82,8 +87,8 @@ public class MainApp extends Application {
 
     // @@author A0132788U
     /**
-     * Initializes the Model by first deleting snapshots created during data mutation from previous run.
-     * Then loads an existing EntryBook or creates a new one if:
+     * Initializes the Model with the undo history saved from the previous run, if it is kept between runs.
+     * Loads an existing EntryBook or creates a new one if:
      * 1. File does not exist
      * 2. File is not in readable XML format
      * 3. File cannot be read from
@@ -91,16 +96,13 @@ public class MainApp extends Application {
     protected Model initModelManager(Storage storage, UserPrefs userPrefs) {
         Optional<ReadOnlyEntryBook> entryBookOptional;
         ReadOnlyEntryBook initialData;
-        DeleteAllSnapshotsOnStartup event = new DeleteAllSnapshotsOnStartup();
         try {
             entryBookOptional = storage.readEntryBook();
             if (!entryBookOptional.isPresent()) {
-                event.deleteAllSnapshotFiles();
                 logger.info("Data file not found. Will be starting with an empty EntryBook");
                 initialData = new EntryBook();
                 storage.handleEntryBookChangedEvent(new EntryBookChangedEvent(initialData));
             } else {
-                event.deleteAllSnapshotFiles();
                 initialData = entryBookOptional.get();
                 storage.handleEntryBookChangedEvent(new EntryBookChangedEvent(initialData));
             }
@@ -117,7 +119,30 @@ public class MainApp extends Application {
 
         }
 
-        return new ModelManager(initialData, userPrefs);
+        undoHistory = initUndoHistory(userPrefs);
+        ModelManager modelManager = new ModelManager(initialData, userPrefs, undoHistory,
+                                                     StatusBarFooter.getClock());
+        modelManager.startOverdueScheduler();
+        return modelManager;
+    }
+
+    /**
+     * Returns an undo history within the limits in {@code userPrefs}, with the steps saved from the previous run
+     * if the undo history is kept between runs and could be read.
+     */
+    private UndoHistory initUndoHistory(UserPrefs userPrefs) {
+        UndoHistory initializedHistory = new UndoHistory(userPrefs.getUndoHistoryDepth(),
+                                                         userPrefs.getUndoHistoryMaxEntries());
+        if (userPrefs.getUndoHistoryFilePath() == null) {
+            return initializedHistory;
+        }
+        try {
+            new XmlUndoHistoryStorage(userPrefs.getUndoHistoryFilePath()).readUndoHistory(initializedHistory);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Problem while reading the undo history. Will be starting with an empty undo history");
+            initializedHistory.clear();
+        }
+        return initializedHistory;
     }
 
     private void initLogging(Config config) {
@@ -196,11 +221,19 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping EntryBook ] =============================");
         ui.stop();
+        storage.flushPendingSaves();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (undoHistory != null && userPrefs.getUndoHistoryFilePath() != null) {
+            try {
+                new XmlUndoHistoryStorage(userPrefs.getUndoHistoryFilePath()).saveUndoHistory(undoHistory);
+            } catch (IOException e) {
+                logger.severe("Failed to save undo history " + StringUtil.getDetails(e));
+            }
+        }
         Platform.exit();
         System.exit(0);
     }
@@ -0,0 +1,39 @@
+package seedu.multitasky.commons.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how the {@link EventsCenter} delivers events to a {@code @Subscribe} method.
+ * Methods without it are called on the thread that posted the event, before {@code post} returns.
+ * Whichever the mode, a method receives events one at a time and in the order they were posted.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Delivery {
+
+    Mode value();
+
+    /** The name of the executor that {@link Mode#ASYNC} events are delivered on. */
+    String executor() default "";
+
+    /**
+     * The ways events can be delivered.
+     */
+    enum Mode {
+        /** On the thread that posted the event, before {@code post} returns. */
+        SYNC,
+        /** In the background, on the thread of the executor named by {@link Delivery#executor()}. */
+        ASYNC,
+        /**
+         * On the JavaFX application thread. Events posted on it are delivered before {@code post} returns
+         * unless earlier events are still waiting to be delivered.
+         */
+        FX_THREAD
+    }
+
+}
@@ -1,21 +1,64 @@
 package seedu.multitasky.commons.core;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
-import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
 
+import javafx.application.Platform;
 import seedu.multitasky.commons.events.BaseEvent;
+import seedu.multitasky.commons.util.StringUtil;
 
 /**
  * Manages the event dispatching of the app.
+ * Events are delivered to the {@code @Subscribe} methods of the registered handlers that take the event's type
+ * or one of its supertypes, in the way each method declares with {@link Delivery}.
+ * Events posted by a subscriber while it handles an event are delivered after that event has been delivered to
+ * every subscriber, so every subscriber receives events in the order they were posted.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
+
+    /** The executors that events are delivered on in the background, by name, which are shared by all centers. */
+    private static final Map<String, ExecutorService> executors = new ConcurrentHashMap<>();
+    /** The name of the executor that the current thread belongs to, or null if it belongs to none. */
+    private static final ThreadLocal<String> currentExecutorName = new ThreadLocal<>();
+    /** Runs tasks on the JavaFX application thread, or right away if JavaFX is not running, as in some tests. */
+    private static final Executor fxThreadExecutor = task -> {
+        try {
+            Platform.runLater(task);
+        } catch (IllegalStateException e) {
+            task.run();
+        }
+    };
+
     private static EventsCenter instance;
-    private final EventBus eventBus;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, List<Subscriber>> subscribersByEventType = new ConcurrentHashMap<>();
+    /** The events posted on each thread that are still to be delivered to some of their subscribers. */
+    private final ThreadLocal<Queue<PostedEvent>> postedEvents = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Boolean> isDispatching = ThreadLocal.withInitial(() -> false);
 
     private EventsCenter() {
-        eventBus = new EventBus();
     }
 
     public static EventsCenter getInstance() {
@@ -29,18 +72,181 @@ public class EventsCenter {
         instance = null;
     }
 
-    public EventsCenter registerHandler(Object handler) {
-        eventBus.register(handler);
+    /**
+     * Registers the {@code @Subscribe} methods of {@code handler}, including those it inherits.
+     *
+     * @throws IllegalArgumentException if a {@code @Subscribe} method does not take exactly one parameter, or
+     *             asks for asynchronous delivery without naming an executor.
+     */
+    public synchronized EventsCenter registerHandler(Object handler) {
+        Set<String> signatures = new HashSet<>();
+        for (Class<?> type : TypeToken.of(handler.getClass()).getTypes().rawTypes()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && !method.isSynthetic()
+                    && signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    register(handler, method);
+                }
+            }
+        }
         return this;
     }
 
+    private void register(Object handler, Method method) {
+        if (method.getParameterTypes().length != 1) {
+            throw new IllegalArgumentException("Subscriber method " + method + " must take exactly one parameter");
+        }
+        Delivery delivery = method.getAnnotation(Delivery.class);
+        Delivery.Mode mode = delivery == null ? Delivery.Mode.SYNC : delivery.value();
+        Executor executor = null;
+        if (mode == Delivery.Mode.ASYNC) {
+            if (delivery.executor().isEmpty()) {
+                throw new IllegalArgumentException("Subscriber method " + method + " must name an executor");
+            }
+            executor = getExecutor(delivery.executor());
+        } else if (mode == Delivery.Mode.FX_THREAD) {
+            executor = fxThreadExecutor;
+        }
+
+        Subscriber subscriber = new Subscriber(handler, method, mode, executor);
+        if (subscribers.stream().noneMatch(subscriber::isSameAs)) {
+            method.setAccessible(true);
+            subscribers.add(subscriber);
+            subscribersByEventType.clear();
+        }
+    }
+
     /**
-     * Posts an event to the event bus.
+     * Posts an event to its subscribers.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        logger.info(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        Queue<PostedEvent> queue = postedEvents.get();
+        queue.add(new PostedEvent(event, getSubscribers(event.getClass())));
+        if (isDispatching.get()) {
+            return this; // Delivered after the event being delivered on this thread
+        }
+
+        isDispatching.set(true);
+        try {
+            PostedEvent posted;
+            while ((posted = queue.poll()) != null) {
+                for (Subscriber subscriber : posted.subscribers) {
+                    subscriber.deliver(posted.event);
+                }
+            }
+        } finally {
+            isDispatching.set(false);
+        }
         return this;
     }
 
+    /**
+     * Waits until every event handed to the executor named {@code executorName} so far has been delivered.
+     * Returns right away when called on that executor, or if no subscriber uses it.
+     */
+    public void awaitDelivery(String executorName) {
+        ExecutorService executor = executors.get(executorName);
+        if (executor == null || executorName.equals(currentExecutorName.get())) {
+            return;
+        }
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+    }
+
+    private List<Subscriber> getSubscribers(Class<?> eventType) {
+        return subscribersByEventType.computeIfAbsent(eventType, type -> subscribers.stream()
+                .filter(subscriber -> subscriber.eventType.isAssignableFrom(type))
+                .collect(Collectors.toList()));
+    }
+
+    private static ExecutorService getExecutor(String name) {
+        return executors.computeIfAbsent(name, unused -> Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(() -> {
+                currentExecutorName.set(name);
+                task.run();
+            }, "EventsCenter " + name);
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * An event with the subscribers it is to be delivered to.
+     */
+    private static class PostedEvent {
+        private final Object event;
+        private final List<Subscriber> subscribers;
+
+        PostedEvent(Object event, List<Subscriber> subscribers) {
+            this.event = event;
+            this.subscribers = subscribers;
+        }
+    }
+
+    /**
+     * A {@code @Subscribe} method of a handler, with the events waiting to be delivered to it on its executor.
+     */
+    private static class Subscriber {
+        private final Object target;
+        private final Method method;
+        private final Class<?> eventType;
+        private final Delivery.Mode mode;
+        private final Executor executor;
+        private final Queue<Object> pendingEvents = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean isScheduled = new AtomicBoolean();
+
+        Subscriber(Object target, Method method, Delivery.Mode mode, Executor executor) {
+            this.target = target;
+            this.method = method;
+            this.eventType = method.getParameterTypes()[0];
+            this.mode = mode;
+            this.executor = executor;
+        }
+
+        boolean isSameAs(Subscriber other) {
+            return target == other.target && method.equals(other.method);
+        }
+
+        void deliver(Object event) {
+            if (mode == Delivery.Mode.SYNC || (mode == Delivery.Mode.FX_THREAD && Platform.isFxApplicationThread()
+                                               && !isScheduled.get() && pendingEvents.isEmpty())) {
+                invoke(event);
+                return;
+            }
+            pendingEvents.add(event);
+            if (isScheduled.compareAndSet(false, true)) {
+                executor.execute(this::deliverPendingEvents);
+            }
+        }
+
+        /**
+         * Delivers the events waiting to be delivered, including those that are added while it runs.
+         */
+        private void deliverPendingEvents() {
+            do {
+                Object event;
+                while ((event = pendingEvents.poll()) != null) {
+                    invoke(event);
+                }
+                isScheduled.set(false);
+            } while (!pendingEvents.isEmpty() && isScheduled.compareAndSet(false, true));
+        }
+
+        private synchronized void invoke(Object event) {
+            try {
+                method.invoke(target, event);
+            } catch (IllegalAccessException e) {
+                throw new AssertionError("Subscriber methods are made accessible when registered", e);
+            } catch (InvocationTargetException e) {
+                logger.severe("Exception thrown by subscriber method " + method + " for event " + event + ": "
+                              + StringUtil.getDetails(e.getCause()));
+            }
+        }
+    }
+
 }
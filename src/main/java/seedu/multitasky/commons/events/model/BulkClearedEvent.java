@@ -0,0 +1,24 @@
+package seedu.multitasky.commons.events.model;
+
+import seedu.multitasky.model.ReadOnlyEntryBook;
+
+/**
+ * Indicates the entries of the EntryBook in the model have been cleared or replaced in bulk, such as by clearing
+ * all entries of a state or opening another file, which is not broken down into the entries changed.
+ * Consumers should start again from {@link #data}.
+ */
+public class BulkClearedEvent extends EntryChangeEvent {
+
+    /** A snapshot of the entry book after the change. */
+    public final ReadOnlyEntryBook data;
+
+    public BulkClearedEvent(long version, ReadOnlyEntryBook data) {
+        super(version);
+        this.data = data;
+    }
+
+    @Override
+    public String toString() {
+        return "version " + version + ", entries cleared or replaced in bulk";
+    }
+}
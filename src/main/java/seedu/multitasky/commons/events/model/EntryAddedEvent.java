@@ -0,0 +1,20 @@
+package seedu.multitasky.commons.events.model;
+
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+
+/** Indicates an entry has been added to the EntryBook in the model */
+public class EntryAddedEvent extends EntryChangeEvent {
+
+    /** An unchanging copy of the entry added. */
+    public final ReadOnlyEntry entry;
+
+    public EntryAddedEvent(long version, ReadOnlyEntry entry) {
+        super(version);
+        this.entry = entry;
+    }
+
+    @Override
+    public String toString() {
+        return "version " + version + ", entry added: " + entry.getName();
+    }
+}
@@ -3,20 +3,30 @@ package seedu.multitasky.commons.events.model;
 import seedu.multitasky.commons.events.BaseEvent;
 import seedu.multitasky.model.ReadOnlyEntryBook;
 
-/** Indicates the EntryBook in the model has changed */
+/**
+ * Indicates the EntryBook in the model has changed.
+ * It is raised once for each action, after the {@link EntryChangeEvent}s of the changes the action made.
+ */
 public class EntryBookChangedEvent extends BaseEvent {
 
     public final ReadOnlyEntryBook data;
+    /** The version of the entry book in {@link #data}, or 0 if it is not known. */
+    public final long version;
 
     public EntryBookChangedEvent(ReadOnlyEntryBook data) {
+        this(data, 0);
+    }
+
+    public EntryBookChangedEvent(ReadOnlyEntryBook data, long version) {
         this.data = data;
+        this.version = version;
     }
 
+    /**
+     * Describes the event without going through the entries, as it is logged every time it is posted.
+     */
     @Override
     public String toString() {
-        return "number of events " + data.getEventList().size()
-                + ", number of deadlines " + data.getDeadlineList().size()
-                + ", number of floating tasks " + data.getFloatingTaskList().size()
-                + ", number of tags " + data.getTagList().size();
+        return "version " + version + ", " + data;
     }
 }
@@ -0,0 +1,19 @@
+package seedu.multitasky.commons.events.model;
+
+import seedu.multitasky.commons.events.BaseEvent;
+
+/**
+ * One change in the stream of changes made to the EntryBook in the model.
+ * Each change is given the next version of the entry book, so the versions of the changes raised by a model
+ * increase one by one, and a consumer that has applied every change up to a version has the data of that version.
+ */
+public abstract class EntryChangeEvent extends BaseEvent {
+
+    /** The version of the entry book after this change. */
+    public final long version;
+
+    protected EntryChangeEvent(long version) {
+        this.version = version;
+    }
+
+}
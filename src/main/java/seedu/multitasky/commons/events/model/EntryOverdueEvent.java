@@ -0,0 +1,24 @@
+package seedu.multitasky.commons.events.model;
+
+import seedu.multitasky.commons.events.BaseEvent;
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+
+/**
+ * Indicates an active entry in the EntryBook in the model has just become overdue as time passed.
+ * The data of the entry book is unchanged, so it is not one of the {@link EntryChangeEvent}s.
+ * This event is raised on the background thread that keeps track of time.
+ */
+public class EntryOverdueEvent extends BaseEvent {
+
+    /** An unchanging copy of the entry that became overdue. */
+    public final ReadOnlyEntry entry;
+
+    public EntryOverdueEvent(ReadOnlyEntry entry) {
+        this.entry = entry;
+    }
+
+    @Override
+    public String toString() {
+        return "entry overdue: " + entry.getName();
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.multitasky.commons.events.model;
+
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+
+/** Indicates an entry has been removed from the EntryBook in the model */
+public class EntryRemovedEvent extends EntryChangeEvent {
+
+    /** An unchanging copy of the entry removed. */
+    public final ReadOnlyEntry entry;
+
+    public EntryRemovedEvent(long version, ReadOnlyEntry entry) {
+        super(version);
+        this.entry = entry;
+    }
+
+    @Override
+    public String toString() {
+        return "version " + version + ", entry removed: " + entry.getName();
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.multitasky.commons.events.model;
+
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+
+/** Indicates only the state of an entry in the EntryBook in the model has changed */
+public class EntryStateChangedEvent extends EntryChangeEvent {
+
+    /** Unchanging copies of the entry before and after its state changed. */
+    public final ReadOnlyEntry before;
+    public final ReadOnlyEntry after;
+
+    public EntryStateChangedEvent(long version, ReadOnlyEntry before, ReadOnlyEntry after) {
+        super(version);
+        this.before = before;
+        this.after = after;
+    }
+
+    @Override
+    public String toString() {
+        return "version " + version + ", entry " + after.getName() + " changed from " + before.getState()
+               + " to " + after.getState();
+    }
+}
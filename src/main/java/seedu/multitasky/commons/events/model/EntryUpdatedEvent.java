@@ -0,0 +1,25 @@
+package seedu.multitasky.commons.events.model;
+
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+
+/**
+ * Indicates an entry in the EntryBook in the model has been edited, which may have changed its type.
+ * Changes to only the state of an entry are raised as {@link EntryStateChangedEvent} instead.
+ */
+public class EntryUpdatedEvent extends EntryChangeEvent {
+
+    /** Unchanging copies of the entry before and after the edit. */
+    public final ReadOnlyEntry before;
+    public final ReadOnlyEntry after;
+
+    public EntryUpdatedEvent(long version, ReadOnlyEntry before, ReadOnlyEntry after) {
+        super(version);
+        this.before = before;
+        this.after = after;
+    }
+
+    @Override
+    public String toString() {
+        return "version " + version + ", entry updated: " + before.getName() + " to " + after.getName();
+    }
+}
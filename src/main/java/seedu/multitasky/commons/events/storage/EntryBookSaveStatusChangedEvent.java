@@ -0,0 +1,26 @@
+package seedu.multitasky.commons.events.storage;
+
+import seedu.multitasky.commons.events.BaseEvent;
+
+/**
+ * Indicates that a version of the entry book was handed in to be saved in the background, or was saved.
+ * This event may be raised on the storage writer thread.
+ */
+public class EntryBookSaveStatusChangedEvent extends BaseEvent {
+
+    /** The latest version of the entry book saved, or 0 if none has been saved yet. */
+    public final long lastSavedVersion;
+    /** The number of versions handed in since the last version that was saved. */
+    public final long pendingVersions;
+
+    public EntryBookSaveStatusChangedEvent(long lastSavedVersion, long pendingVersions) {
+        this.lastSavedVersion = lastSavedVersion;
+        this.pendingVersions = pendingVersions;
+    }
+
+    @Override
+    public String toString() {
+        return "last saved version " + lastSavedVersion + ", versions waiting to be saved " + pendingVersions;
+    }
+
+}
@@ -1,11 +1,13 @@
 package seedu.multitasky.commons.util.match;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.List;
 
 // @@author A0125586X
 /**
  * Class that performs acronym matching.
+ * The input matches if its characters occur in order in the potential match, with no whitespace in between
+ * them or before or after them that is not itself one of the characters.
  */
 public class AcronymMatch implements Match {
 
@@ -13,26 +15,36 @@ public class AcronymMatch implements Match {
         if (input == null || potentialMatches == null || potentialMatches.length == 0) {
             return null;
         }
-        return MatchUtil.getRegexMatch(getRegex(input), potentialMatches);
+        List<String> matches = new ArrayList<>();
+        for (String potentialMatch : potentialMatches) {
+            if (isMatch(input, potentialMatch)) {
+                matches.add(potentialMatch);
+            }
+        }
+        return MatchUtil.filterMatches(matches);
     }
 
+    /**
+     * Scans the potential match once, matching each character of the input to the earliest character left that
+     * equals it. Every whitespace character of the potential match has to be matched by one in the input, so the
+     * input and potential match split at their whitespace into the same number of parts, and each part of the
+     * input only has to be found in order in the matching part of the potential match, which the earliest
+     * matches do whenever possible.
+     */
     public boolean isMatch(final String input, final String potentialMatch) {
         if (input == null || potentialMatch == null) {
             return false;
         }
-        return MatchUtil.getRegexMatch(getRegex(input), potentialMatch) != null;
-    }
-
-    private static String getRegex(final String input) {
-        final ArrayList<String> chars = new ArrayList<>(Arrays.asList(input.split("")));
-        final StringBuilder regex = new StringBuilder();
-        // Alternate keyword characters and any non whitespace
-        regex.append(MatchUtil.REGEX_OPTIONAL_NON_WHITESPACE);
-        for (String singleChar : chars) {
-            regex.append(singleChar);
-            regex.append(MatchUtil.REGEX_OPTIONAL_NON_WHITESPACE);
+        int matched = 0;
+        for (int i = 0; i < potentialMatch.length(); ++i) {
+            char c = potentialMatch.charAt(i);
+            if (matched < input.length() && input.charAt(matched) == c) {
+                matched++;
+            } else if (MatchUtil.containsWhitespace(potentialMatch, i, i + 1)) {
+                return false;
+            }
         }
-        return regex.toString();
+        return matched == input.length();
     }
 
 }
@@ -6,6 +6,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.regex.Pattern;
 
 // @@author A0125586X
 /**
@@ -32,13 +33,14 @@ public class MatchUtil {
     }
 
     /**
-     * Attempts to find a single match for the regex.
+     * Attempts to find a single match for the regex, which is compiled once and cached.
      * If multiple matches are found, {@code null} is returned.
      */
     public static String getRegexMatch(final String regex, final String... potentialMatches) {
+        final Pattern pattern = PatternCache.get(regex);
         ArrayList<String> matches = new ArrayList<>();
         for (String potentialMatch : potentialMatches) {
-            if (potentialMatch.matches(regex)) {
+            if (pattern.matcher(potentialMatch).matches()) {
                 matches.add(potentialMatch);
             }
         }
@@ -55,6 +57,83 @@ public class MatchUtil {
         return matches.get(0);
     }
 
+    /**
+     * Returns true if {@code potentialMatch} matches {@code input} with exactly {@code wrongExtraChars} of its
+     * characters replaced by wildcards, where each wildcard stands for any number of non-whitespace characters,
+     * and with any non-whitespace characters before and after {@code input}.
+     * This accepts the same potential matches as trying the regex for every choice of characters to replace, by
+     * simulating the automaton of all those regexes at once. Each state holds the set of wildcard counts with
+     * which the characters of {@code input} so far can end at a position of {@code potentialMatch}, as a bitmask,
+     * so the whole match takes O(mn) time.
+     */
+    public static boolean isWrongExtraMatch(final String input, final String potentialMatch,
+                                            final int wrongExtraChars) {
+        final int length = potentialMatch.length();
+        final int allCounts = (1 << (wrongExtraChars + 1)) - 1;
+        // Counts for input characters that ended with a literal character, or with a wildcard that can extend.
+        int[] literal = new int[length + 1];
+        int[] wildcard = new int[length + 1];
+        for (int j = 0; j <= length; ++j) {
+            literal[j] = 1;
+            if (j < length && containsWhitespace(potentialMatch, j, j + 1)) {
+                break;
+            }
+        }
+        for (int i = 0; i < input.length(); ++i) {
+            final int[] nextLiteral = new int[length + 1];
+            final int[] nextWildcard = new int[length + 1];
+            final char c = input.charAt(i);
+            for (int j = 0; j <= length; ++j) {
+                final int counts = literal[j] | wildcard[j];
+                if (counts == 0) {
+                    continue;
+                }
+                if (j < length && potentialMatch.charAt(j) == c) {
+                    nextLiteral[j + 1] |= counts;
+                }
+                nextWildcard[j] |= (counts << 1) & allCounts;
+            }
+            for (int j = 0; j < length; ++j) {
+                if (nextWildcard[j] != 0 && !containsWhitespace(potentialMatch, j, j + 1)) {
+                    nextWildcard[j + 1] |= nextWildcard[j];
+                }
+            }
+            literal = nextLiteral;
+            wildcard = nextWildcard;
+        }
+        final int acceptedCount = 1 << wrongExtraChars;
+        for (int j = length; j >= 0; --j) {
+            if (((literal[j] | wildcard[j]) & acceptedCount) != 0) {
+                return true;
+            }
+            if (j > 0 && containsWhitespace(potentialMatch, j - 1, j)) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code string} has a whitespace character, as matched by {@code \s} in a regex, from
+     * {@code start} inclusive to {@code end} exclusive.
+     */
+    public static boolean containsWhitespace(final String string, final int start, final int end) {
+        for (int i = start; i < end; ++i) {
+            switch (string.charAt(i)) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\u000B':
+            case '\f':
+            case '\r':
+                return true;
+            default:
+                break;
+            }
+        }
+        return false;
+    }
+
     /**
      * Removes whitespace from an input string.
      */
@@ -63,6 +142,17 @@ public class MatchUtil {
         return buildString(words);
     }
 
+    /**
+     * Splits an input string into its characters, each quoted to be matched literally in a regex.
+     */
+    public static ArrayList<String> splitIntoQuotedChars(final String input) {
+        final ArrayList<String> chars = new ArrayList<>(input.length());
+        for (int i = 0; i < input.length(); ++i) {
+            chars.add(Pattern.quote(input.substring(i, i + 1)));
+        }
+        return chars;
+    }
+
     /**
      * Builds a string from a collection that can be iterated over
      */
@@ -0,0 +1,44 @@
+package seedu.multitasky.commons.util.match;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded cache of compiled regexes shared by all matchers, so that the regexes for a keyword at a matching
+ * level are compiled once rather than on every match.
+ * The regex for a level and keyword is determined by both, so regexes are cached by their text. When the cache
+ * is full, the least recently used regex is evicted. Safe to use from multiple threads.
+ */
+public class PatternCache {
+
+    public static final int MAX_SIZE = 1024;
+
+    private static final Map<String, Pattern> patterns = new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    /**
+     * Returns the compiled {@code regex}, compiling it if it is not in the cache.
+     */
+    public static Pattern get(final String regex) {
+        synchronized (patterns) {
+            Pattern pattern = patterns.get(regex);
+            if (pattern == null) {
+                pattern = Pattern.compile(regex);
+                patterns.put(regex, pattern);
+            }
+            return pattern;
+        }
+    }
+
+    public static int size() {
+        synchronized (patterns) {
+            return patterns.size();
+        }
+    }
+
+}
@@ -1,38 +1,101 @@
 package seedu.multitasky.commons.util.match;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 // @@author A0125586X
 /**
  * Class that performs permutation matching.
+ * The input matches if some permutation of its characters occurs in the potential match with no whitespace
+ * before or after it, which is found by sliding a window of the input's length over the potential match and
+ * comparing the counts of each character in the window with those in the input.
  */
 public class PermutationMatch implements Match {
 
-    public static final int MAX_LENGTH = 8;
-
     public String match(final String input, final String... potentialMatches) {
-        if (input == null || potentialMatches == null || potentialMatches.length == 0
-            || input.length() > MAX_LENGTH) {
+        if (input == null || potentialMatches == null || potentialMatches.length == 0) {
             return null;
         }
-        return MatchUtil.getRegexMatch(getRegexes(input), potentialMatches);
+        List<String> matches = new ArrayList<>();
+        for (String potentialMatch : potentialMatches) {
+            if (isMatch(input, potentialMatch)) {
+                matches.add(potentialMatch);
+            }
+        }
+        return MatchUtil.filterMatches(matches);
     }
 
     public boolean isMatch(final String input, final String potentialMatch) {
-        if (input == null || potentialMatch == null
-            || input.length() > MAX_LENGTH) {
+        if (input == null || potentialMatch == null || input.length() > potentialMatch.length()) {
             return false;
         }
-        return MatchUtil.getRegexMatch(getRegexes(input), potentialMatch) != null;
-    }
+        final int length = input.length();
+        final char[] sortedChars = input.toCharArray();
+        Arrays.sort(sortedChars);
+        int distinctChars = 0;
+        for (int i = 0; i < length; ++i) {
+            if (i == 0 || sortedChars[i] != sortedChars[i - 1]) {
+                sortedChars[distinctChars++] = sortedChars[i];
+            }
+        }
+        final char[] symbols = Arrays.copyOf(sortedChars, distinctChars);
+        final int[] required = new int[symbols.length];
+        for (int i = 0; i < length; ++i) {
+            required[Arrays.binarySearch(symbols, input.charAt(i))]++;
+        }
+        // Counts of each character of the input in the window, and of the other characters in the window.
+        final int[] present = new int[symbols.length];
+        int unmatchedSymbols = symbols.length;
+        int foreignChars = 0;
 
-    private static ArrayList<String> getRegexes(final String input) {
-        final ArrayList<String> permutations = MatchUtil.getPermutations(input);
-        for (int i = 0; i < permutations.size(); ++i) {
-            permutations.set(i, MatchUtil.REGEX_OPTIONAL_NON_WHITESPACE + permutations.get(i)
-                              + MatchUtil.REGEX_OPTIONAL_NON_WHITESPACE);
+        int firstWhitespace = potentialMatch.length();
+        int lastWhitespace = -1;
+        for (int i = 0; i < potentialMatch.length(); ++i) {
+            if (MatchUtil.containsWhitespace(potentialMatch, i, i + 1)) {
+                firstWhitespace = Math.min(firstWhitespace, i);
+                lastWhitespace = i;
+            }
         }
-        return permutations;
+
+        for (int end = 0; end <= potentialMatch.length(); ++end) {
+            final int start = end - length;
+            if (start > firstWhitespace) {
+                return false; // Every later window has whitespace before it
+            }
+            if (start >= 0 && foreignChars == 0 && unmatchedSymbols == 0 && end > lastWhitespace) {
+                return true;
+            }
+            if (end == potentialMatch.length()) {
+                break;
+            }
+            // Slide the window forward by one character.
+            int added = Arrays.binarySearch(symbols, potentialMatch.charAt(end));
+            if (added < 0) {
+                foreignChars++;
+            } else {
+                unmatchedSymbols += countChange(present[added], present[added] + 1, required[added]);
+                present[added]++;
+            }
+            if (start >= 0) {
+                int removed = Arrays.binarySearch(symbols, potentialMatch.charAt(start));
+                if (removed < 0) {
+                    foreignChars--;
+                } else {
+                    unmatchedSymbols += countChange(present[removed], present[removed] - 1, required[removed]);
+                    present[removed]--;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the change in the number of unmatched characters when the count of a character in the window
+     * changes from {@code before} to {@code after}.
+     */
+    private static int countChange(int before, int after, int required) {
+        return (after == required ? 0 : 1) - (before == required ? 0 : 1);
     }
 
 }
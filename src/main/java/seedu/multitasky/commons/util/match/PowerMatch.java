@@ -16,6 +16,8 @@ public class PowerMatch implements Matcher {
     public static final int UNUSED = -1;
     public static final int MIN_LEVEL = 0;
     public static final int MAX_LEVEL = 6;
+    public static final int SUBSTRING_LEVEL = 0;
+    public static final int PREFIX_LEVEL = 1;
 
     private Match[] matchLevels = {
         new SubstringMatch(),
@@ -1,8 +1,13 @@
 package seedu.multitasky.commons.util.match;
 
+import java.util.ArrayList;
+import java.util.List;
+
 // @@author A0125586X
 /**
  * Class that performs prefix matching.
+ * The input matches if the potential match starts with it and continues with at least one more character,
+ * with no whitespace after it.
  */
 public class PrefixMatch implements Match {
 
@@ -10,18 +15,21 @@ public class PrefixMatch implements Match {
         if (input == null || potentialMatches == null || potentialMatches.length == 0) {
             return null;
         }
-        return MatchUtil.getRegexMatch(getRegex(input), potentialMatches);
+        List<String> matches = new ArrayList<>();
+        for (String potentialMatch : potentialMatches) {
+            if (isMatch(input, potentialMatch)) {
+                matches.add(potentialMatch);
+            }
+        }
+        return MatchUtil.filterMatches(matches);
     }
 
     public boolean isMatch(final String input, final String potentialMatch) {
         if (input == null || potentialMatch == null) {
             return false;
         }
-        return MatchUtil.getRegexMatch(getRegex(input), potentialMatch) != null;
-    }
-
-    private static String getRegex(final String input) {
-        return input + MatchUtil.REGEX_PRESENT_NON_WHITESPACE;
+        return potentialMatch.length() > input.length() && potentialMatch.startsWith(input)
+               && !MatchUtil.containsWhitespace(potentialMatch, input.length(), potentialMatch.length());
     }
 
 }
@@ -1,8 +1,12 @@
 package seedu.multitasky.commons.util.match;
 
+import java.util.ArrayList;
+import java.util.List;
+
 // @@author A0125586X
 /**
  * Class that performs substring matching.
+ * The input matches if it occurs in the potential match with no whitespace before or after it.
  */
 public class SubstringMatch implements Match {
 
@@ -10,18 +14,29 @@ public class SubstringMatch implements Match {
         if (input == null || potentialMatches == null || potentialMatches.length == 0) {
             return null;
         }
-        return MatchUtil.getRegexMatch(getRegex(input), potentialMatches);
+        List<String> matches = new ArrayList<>();
+        for (String potentialMatch : potentialMatches) {
+            if (isMatch(input, potentialMatch)) {
+                matches.add(potentialMatch);
+            }
+        }
+        return MatchUtil.filterMatches(matches);
     }
 
     public boolean isMatch(final String input, final String potentialMatch) {
         if (input == null || potentialMatch == null) {
             return false;
         }
-        return MatchUtil.getRegexMatch(getRegex(input), potentialMatch) != null;
-    }
-
-    private static String getRegex(final String input) {
-        return MatchUtil.REGEX_OPTIONAL_NON_WHITESPACE + input + MatchUtil.REGEX_OPTIONAL_NON_WHITESPACE;
+        for (int index = potentialMatch.indexOf(input); index >= 0;
+             index = potentialMatch.indexOf(input, index + 1)) {
+            if (MatchUtil.containsWhitespace(potentialMatch, 0, index)) {
+                return false; // Every later occurrence has the same whitespace before it
+            }
+            if (!MatchUtil.containsWhitespace(potentialMatch, index + input.length(), potentialMatch.length())) {
+                return true;
+            }
+        }
+        return false;
     }
 
 }
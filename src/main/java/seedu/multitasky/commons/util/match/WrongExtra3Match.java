@@ -1,7 +1,6 @@
 package seedu.multitasky.commons.util.match;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 
 // @@author A0125586X
 /**
@@ -11,14 +10,28 @@ public class WrongExtra3Match implements Match {
 
     public static final int MIN_LENGTH = 7;
     public static final int MAX_LENGTH = 14;
+    private static final int WRONG_EXTRA_CHARS = 3;
 
+    /**
+     * Returns the potential match found by the first regex that matches exactly one potential match.
+     * Only the potential matches that match any of the regexes are tried against each regex.
+     */
     public String match(final String input, final String... potentialMatches) {
         if (input == null || potentialMatches == null
             || input.length() < MIN_LENGTH || input.length() > MAX_LENGTH
             || potentialMatches.length == 0) {
             return null;
         }
-        return MatchUtil.getRegexMatch(getRegexes(input), potentialMatches);
+        final ArrayList<String> candidates = new ArrayList<>();
+        for (String potentialMatch : potentialMatches) {
+            if (isMatch(input, potentialMatch)) {
+                candidates.add(potentialMatch);
+            }
+        }
+        if (candidates.size() <= 1) {
+            return MatchUtil.filterMatches(candidates);
+        }
+        return MatchUtil.getRegexMatch(getRegexes(input), candidates.toArray(new String[candidates.size()]));
     }
 
     public boolean isMatch(final String input, final String potentialMatch) {
@@ -26,12 +39,12 @@ public class WrongExtra3Match implements Match {
             || input.length() < MIN_LENGTH || input.length() > MAX_LENGTH) {
             return false;
         }
-        return MatchUtil.getRegexMatch(getRegexes(input), potentialMatch) != null;
+        return MatchUtil.isWrongExtraMatch(input, potentialMatch, WRONG_EXTRA_CHARS);
     }
 
     private static ArrayList<String> getRegexes(final String input) {
         final ArrayList<String> regexes = new ArrayList<>();
-        final ArrayList<String> chars = new ArrayList<>(Arrays.asList(input.split("")));
+        final ArrayList<String> chars = MatchUtil.splitIntoQuotedChars(input);
         for (int i = 0; i < chars.size(); ++i) {
             for (int j = i + 1; j < chars.size(); ++j) {
                 for (int k = j + 1; k < chars.size(); ++k) {
@@ -16,8 +16,6 @@ import java.util.Date;
 import java.util.List;
 import java.util.Set;
 
-import org.ocpsoft.prettytime.nlp.PrettyTimeParser;
-
 import seedu.multitasky.commons.exceptions.IllegalValueException;
 import seedu.multitasky.logic.commands.AddCommand;
 import seedu.multitasky.logic.parser.exceptions.ParseException;
@@ -311,14 +309,13 @@ public class AddCommandParser {
 
     /**
      * Method that loops through all but the last string in input {@code List<String>} and appends prefix + args to
-     * input {@code StringBuilder} if {@code PrettyTimeParser} fails to parse it.
+     * input {@code StringBuilder} if {@code DateParsingService} fails to parse it.
      */
     private void appendAllExceptLastNonDateString(StringBuilder builder, Prefix prefix, List<String> argList) {
         List<Date> dateList;
-        PrettyTimeParser ptp = new PrettyTimeParser();
         for (int i = 0; i < argList.size() - 1; i++) {
             String args = argList.get(i);
-            dateList = ptp.parse(args);
+            dateList = DateParsingService.getInstance().parse(args);
             if (dateList.size() < 1 && !args.equals("")) {
                 builder.append(" ").append(prefix.toString())
                 .append(" ").append(argList.get(i));
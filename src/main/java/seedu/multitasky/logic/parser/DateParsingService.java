@@ -0,0 +1,231 @@
+package seedu.multitasky.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.logging.Logger;
+
+import org.ocpsoft.prettytime.nlp.PrettyTimeParser;
+
+import seedu.multitasky.commons.core.LogsCenter;
+
+/**
+ * Parses the dates typed into commands, with one {@link PrettyTimeParser} shared by all commands.
+ * The parser is slow to create and to parse its first date, so it can be created and warmed up on a background
+ * thread at startup with {@link #prewarm()}.
+ * Dates in the fixed formats {@code M/d/yy H:mm}, {@code M/d/yyyy H:mm} and {@code yyyy-M-d H:mm}, with optional
+ * seconds, are parsed without the parser, to the same dates the parser gives them.
+ * The dates of other phrases, such as "tomorrow 5pm", depend on the current time, and are remembered until the
+ * minute changes.
+ */
+public class DateParsingService {
+
+    /** The most phrases remembered at once, so that unusual input does not fill up memory. */
+    public static final int MAX_REMEMBERED_PHRASES = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(DateParsingService.class);
+
+    private static final String RANGE_SEPARATOR = " to ";
+    private static final String WARM_UP_PHRASE = "tomorrow 5pm to next friday 10:00";
+    private static final long MILLIS_PER_MINUTE = 60 * 1000;
+
+    private static final DateParsingService instance = new DateParsingService(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private final FutureTask<PrettyTimeParser> parserCreation = new FutureTask<>(() -> {
+        PrettyTimeParser parser = new PrettyTimeParser();
+        parser.parse(WARM_UP_PHRASE);
+        return parser;
+    });
+
+    /** The dates of the phrases parsed by the parser during {@link #rememberedMinute}, as epoch milliseconds. */
+    private final Map<String, long[]> rememberedPhrases = new HashMap<>();
+    private long rememberedMinute = Long.MIN_VALUE;
+
+    /**
+     * Creates a service that uses {@code clock} to tell when the minute changes, and the year that two-digit years
+     * are closest to.
+     */
+    public DateParsingService(Clock clock) {
+        this.clock = requireNonNull(clock);
+    }
+
+    /**
+     * Returns the service shared by the command parsers.
+     */
+    public static DateParsingService getInstance() {
+        return instance;
+    }
+
+    /**
+     * Starts creating and warming up the parser on a background thread, if it has not been created yet.
+     */
+    public void prewarm() {
+        Thread thread = new Thread(() -> {
+            long start = System.nanoTime();
+            parserCreation.run();
+            logger.fine("Date parser warmed up in " + (System.nanoTime() - start) / 1000000 + " ms");
+        }, "DateParsingService warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns the dates found in {@code text}, as {@link PrettyTimeParser#parse(String)} does.
+     * A range written as two dates in a fixed format separated by " to " gives both dates.
+     */
+    public List<Date> parse(String text) {
+        requireNonNull(text);
+        LocalDateTime fixedDate = parseFixedFormat(text);
+        if (fixedDate != null) {
+            return Collections.singletonList(toDate(fixedDate));
+        }
+        int separator = text.indexOf(RANGE_SEPARATOR);
+        if (separator >= 0) {
+            LocalDateTime first = parseFixedFormat(text.substring(0, separator));
+            LocalDateTime second = parseFixedFormat(text.substring(separator + RANGE_SEPARATOR.length()));
+            if (first != null && second != null) {
+                return Arrays.asList(toDate(first), toDate(second));
+            }
+        }
+
+        long[] dates = parseWithParser(text);
+        List<Date> parsed = new ArrayList<>(dates.length);
+        for (long date : dates) {
+            parsed.add(new Date(date));
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns the dates of {@code text} parsed by the parser, remembering them until the minute changes.
+     */
+    private synchronized long[] parseWithParser(String text) {
+        long minute = Math.floorDiv(clock.millis(), MILLIS_PER_MINUTE);
+        if (minute != rememberedMinute || rememberedPhrases.size() >= MAX_REMEMBERED_PHRASES) {
+            rememberedPhrases.clear();
+            rememberedMinute = minute;
+        }
+        long[] dates = rememberedPhrases.get(text);
+        if (dates == null) {
+            dates = getParser().parse(text).stream().mapToLong(Date::getTime).toArray();
+            rememberedPhrases.put(text, dates);
+        }
+        return dates;
+    }
+
+    /**
+     * Returns the parser, creating it on this thread if it is not being created in the background.
+     */
+    private PrettyTimeParser getParser() {
+        parserCreation.run(); // Does nothing if the parser is being or has been created
+        try {
+            return parserCreation.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the date parser", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The date parser could not be created", e.getCause());
+        }
+    }
+
+    // ================= Fixed formats =================
+
+    /**
+     * Returns the date and time in {@code text} if it is a valid date in one of the fixed formats, or null
+     * otherwise, leaving dates that are not valid for the parser to interpret.
+     */
+    private LocalDateTime parseFixedFormat(String text) {
+        String[] parts = text.trim().split(" +");
+        if (parts.length != 2) {
+            return null;
+        }
+        int[] date = parseDate(parts[0]);
+        int[] time = parseTime(parts[1]);
+        if (date == null || time == null) {
+            return null;
+        }
+        int year = date[0];
+        int month = date[1];
+        int day = date[2];
+        if (month < 1 || month > 12 || day < 1 || day > LocalDate.of(year, month, 1).lengthOfMonth()) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, time[0], time[1], time[2]);
+    }
+
+    /**
+     * Returns the year, month and day of {@code text} in the form {@code M/d/yy}, {@code M/d/yyyy} or
+     * {@code yyyy-M-d}, or null if it is in none of them. Two-digit years are read as the year from 79 years
+     * before to 20 years after the current year, as the parser reads them.
+     */
+    private int[] parseDate(String text) {
+        String[] fields = text.split("/", -1);
+        if (fields.length == 3 && isDigits(fields[0], 1, 2) && isDigits(fields[1], 1, 2)
+            && (isDigits(fields[2], 2, 2) || isDigits(fields[2], 4, 4))) {
+            int year = Integer.parseInt(fields[2]);
+            if (fields[2].length() == 2) {
+                int latestYear = LocalDate.now(clock).getYear() + 20;
+                year += latestYear - Math.floorMod(latestYear, 100);
+                if (year > latestYear) {
+                    year -= 100;
+                }
+            }
+            return new int[] { year, Integer.parseInt(fields[0]), Integer.parseInt(fields[1]) };
+        }
+        fields = text.split("-", -1);
+        if (fields.length == 3 && isDigits(fields[0], 4, 4) && isDigits(fields[1], 1, 2)
+            && isDigits(fields[2], 1, 2)) {
+            return new int[] { Integer.parseInt(fields[0]), Integer.parseInt(fields[1]),
+                               Integer.parseInt(fields[2]) };
+        }
+        return null;
+    }
+
+    /**
+     * Returns the hour, minute and second of {@code text} in the form {@code H:mm} or {@code H:mm:ss}, or null
+     * if it is not a valid time in either.
+     */
+    private static int[] parseTime(String text) {
+        String[] fields = text.split(":", -1);
+        if (fields.length < 2 || fields.length > 3 || !isDigits(fields[0], 1, 2) || !isDigits(fields[1], 2, 2)
+            || (fields.length == 3 && !isDigits(fields[2], 2, 2))) {
+            return null;
+        }
+        int hour = Integer.parseInt(fields[0]);
+        int minute = Integer.parseInt(fields[1]);
+        int second = fields.length == 3 ? Integer.parseInt(fields[2]) : 0;
+        if (hour > 23 || minute > 59 || second > 59) {
+            return null;
+        }
+        return new int[] { hour, minute, second };
+    }
+
+    private static boolean isDigits(String text, int minLength, int maxLength) {
+        if (text.length() < minLength || text.length() > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); ++i) {
+            if (text.charAt(i) < '0' || text.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(clock.getZone()).toInstant());
+    }
+
+}
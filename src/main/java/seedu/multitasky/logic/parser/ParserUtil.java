@@ -16,8 +16,6 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.ocpsoft.prettytime.nlp.PrettyTimeParser;
-
 import seedu.multitasky.commons.core.UnmodifiableObservableList;
 import seedu.multitasky.commons.core.index.Index;
 import seedu.multitasky.commons.exceptions.IllegalValueException;
@@ -93,10 +91,9 @@ public class ParserUtil {
      * @throws IllegalValueException if input args String cannot be parsed into a Date.
      */
     public static Calendar parseDate(String args) throws ParseException {
-        PrettyTimeParser ptp = new PrettyTimeParser();
         Calendar calendar = new GregorianCalendar();
 
-        List<Date> dates = ptp.parse(args);
+        List<Date> dates = DateParsingService.getInstance().parse(args);
         if (dates.size() != 1) {
             throw new ParseException(String.format(MESSAGE_FAIL_PARSE_DATE, args));
         }
@@ -124,14 +121,14 @@ public class ParserUtil {
      */
     public static Calendar parseExtendedDate(String firstDateArgs, String secondDateArgs) throws ParseException {
         String combinedDateArgs = firstDateArgs.trim() + " to " + secondDateArgs.trim();
-        PrettyTimeParser ptp = new PrettyTimeParser();
+        DateParsingService dateParser = DateParsingService.getInstance();
         Calendar calendar = new GregorianCalendar();
 
-        List<Date> dates = ptp.parse(firstDateArgs);
+        List<Date> dates = dateParser.parse(firstDateArgs);
         if (dates.size() != 1) {
             throw new ParseException(String.format(MESSAGE_FAIL_PARSE_DATE, firstDateArgs));
         }
-        dates = ptp.parse(combinedDateArgs);
+        dates = dateParser.parse(combinedDateArgs);
         if (dates.size() != 2) {
             throw new ParseException(String.format(MESSAGE_FAIL_PARSE_DATE, secondDateArgs));
         }
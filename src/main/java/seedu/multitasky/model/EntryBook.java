@@ -2,17 +2,22 @@ package seedu.multitasky.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.multitasky.commons.core.LogsCenter;
 import seedu.multitasky.commons.core.UnmodifiableObservableList;
@@ -31,6 +36,7 @@ import seedu.multitasky.model.entry.exceptions.EntryNotFoundException;
 import seedu.multitasky.model.entry.exceptions.EntryOverdueException;
 import seedu.multitasky.model.entry.exceptions.OverlappingAndOverdueEventException;
 import seedu.multitasky.model.entry.exceptions.OverlappingEventException;
+import seedu.multitasky.model.entry.util.TrigramIndex;
 import seedu.multitasky.model.tag.Tag;
 import seedu.multitasky.model.tag.UniqueTagList;
 import seedu.multitasky.model.util.EntryBuilder;
@@ -47,13 +53,50 @@ public class EntryBook implements ReadOnlyEntryBook {
     private final DeadlineList deadlineList;
     private final FloatingTaskList floatingTaskList;
     private final UniqueTagList tags;
+    private final TrigramIndex<ReadOnlyEntry> searchKeyIndex = new TrigramIndex<>();
+    /** The clock that tells whether entries are overdue. */
+    private Clock clock = Clock.systemDefaultZone();
+
+    // The changes made since the last delta was taken, while changes are recorded.
+    private boolean isRecordingChanges;
+    private final List<ReadOnlyEntry> pendingRemovedEntries = new ArrayList<>();
+    private final List<Integer> pendingRemovedIndices = new ArrayList<>();
+    private final List<ReadOnlyEntry> pendingAddedEntries = new ArrayList<>();
+    private final List<Integer> pendingAddedIndices = new ArrayList<>();
+    private final Set<ReadOnlyEntry> pendingAddedEntrySet = Collections.newSetFromMap(new IdentityHashMap<>());
+    private List<Tag> tagsAtLastDelta;
 
+    /**
+     * Creates an empty EntryBook, whose search key index is kept in sync with every change to the event,
+     * deadline and floating task lists, including entries added, removed, edited or cleared.
+     */
     public EntryBook() {
         allEntriesList = new MiscEntryList();
         eventList = new EventList();
         deadlineList = new DeadlineList();
         floatingTaskList = new FloatingTaskList();
         tags = new UniqueTagList();
+
+        eventList.shareEntriesWith(allEntriesList);
+        deadlineList.shareEntriesWith(allEntriesList);
+        floatingTaskList.shareEntriesWith(allEntriesList);
+
+        ListChangeListener<Entry> searchKeyIndexUpdater = change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(searchKeyIndex::remove);
+                change.getAddedSubList().forEach(entry -> searchKeyIndex.put(entry, entry.getSearchKey()));
+            }
+        };
+        eventList.asObservableList().addListener(searchKeyIndexUpdater);
+        deadlineList.asObservableList().addListener(searchKeyIndexUpdater);
+        floatingTaskList.asObservableList().addListener(searchKeyIndexUpdater);
+
+        eventList.addSnapshotChangeListener(this::recordChange);
+        deadlineList.addSnapshotChangeListener(this::recordChange);
+        floatingTaskList.addSnapshotChangeListener(this::recordChange);
     }
 
     /**
@@ -93,16 +136,11 @@ public class EntryBook implements ReadOnlyEntryBook {
      * @throws DuplicateEntryException
      */
     private void setAllEntriesList() throws DuplicateEntryException {
-        this.allEntriesList.setEntries(new MiscEntryList());
-        for (ReadOnlyEntry entry : eventList) {
-            this.allEntriesList.add(entry);
-        }
-        for (ReadOnlyEntry entry : deadlineList) {
-            this.allEntriesList.add(entry);
-        }
-        for (ReadOnlyEntry entry : floatingTaskList) {
-            this.allEntriesList.add(entry);
-        }
+        final List<ReadOnlyEntry> allEntries = new ArrayList<>();
+        allEntries.addAll(eventList.asObservableList());
+        allEntries.addAll(deadlineList.asObservableList());
+        allEntries.addAll(floatingTaskList.asObservableList());
+        this.allEntriesList.setEntries(allEntries);
     }
 
     private void setEventList(List<? extends ReadOnlyEntry> entries) throws DuplicateEntryException {
@@ -172,7 +210,7 @@ public class EntryBook implements ReadOnlyEntryBook {
             throws DuplicateEntryException, OverlappingAndOverdueEventException, OverlappingEventException,
             EntryOverdueException {
         boolean overlappingEventPresent = eventList.hasOverlappingEvent(newEntry);
-        boolean eventIsDue = ((Event) newEntry).isOverdue();
+        boolean eventIsDue = ((Event) newEntry).isOverdue(clock.millis());
 
         eventList.add(newEntry);
 
@@ -181,7 +219,7 @@ public class EntryBook implements ReadOnlyEntryBook {
 
     private void addToDeadlineListWithOverdueCheck(ReadOnlyEntry newEntry)
             throws DuplicateEntryException, EntryOverdueException {
-        boolean deadlineIsDue = ((Deadline) newEntry).isOverdue();
+        boolean deadlineIsDue = ((Deadline) newEntry).isOverdue(clock.millis());
 
         deadlineList.add(newEntry);
 
@@ -214,7 +252,7 @@ public class EntryBook implements ReadOnlyEntryBook {
             updateEntryInSubtypeList(target, editedReadOnlyEntry);
             /**
              * this.allEntriesList does not need updating because it's pointing to the same entries contained
-             * in the appropriate sub-type lists.
+             * in the appropriate sub-type lists, which keep its duplicate check index in sync.
              */
         } catch (EntryNotFoundException | OverlappingEventException
                  | OverlappingAndOverdueEventException | EntryOverdueException e) {
@@ -257,7 +295,7 @@ public class EntryBook implements ReadOnlyEntryBook {
                                           && eventList.hasOverlappingEventAfterUpdate(target,
                                                                                       editedReadOnlyEntry);
         Event editedEvent = (Event) editedReadOnlyEntry;
-        boolean editedEventIsDue = editedEvent.isOverdue();
+        boolean editedEventIsDue = editedEvent.isOverdue(clock.millis());
 
         eventList.updateEntry(target, editedReadOnlyEntry);
 
@@ -267,7 +305,7 @@ public class EntryBook implements ReadOnlyEntryBook {
     private void editDeadlineWithOverdueCheck(ReadOnlyEntry target, ReadOnlyEntry editedReadOnlyEntry)
             throws DuplicateEntryException, EntryNotFoundException, EntryOverdueException {
         Deadline editedDeadline = (Deadline) editedReadOnlyEntry;
-        boolean editedDeadlineIsDue = editedDeadline.isOverdue();
+        boolean editedDeadlineIsDue = editedDeadline.isOverdue(clock.millis());
 
         deadlineList.updateEntry(target, editedReadOnlyEntry);
 
@@ -409,7 +447,7 @@ public class EntryBook implements ReadOnlyEntryBook {
                                           && eventList.hasOverlappingEventAfterUpdate(entryToChange,
                                                                                       prospectiveEntry);
         boolean eventIsDue = newState.equals(Entry.State.ACTIVE)
-                             && ((Event) prospectiveEntry).isOverdue();
+                             && ((Event) prospectiveEntry).isOverdue(clock.millis());
 
         eventList.changeEntryState(entryToChange, newState);
 
@@ -434,7 +472,7 @@ public class EntryBook implements ReadOnlyEntryBook {
         Entry prospectiveEntry = EntryBuilder.build(entryToChange);
         prospectiveEntry.setState(newState);
         boolean deadlineIsDue = newState.equals(Entry.State.ACTIVE)
-                                && ((Deadline) prospectiveEntry).isOverdue();
+                                && ((Deadline) prospectiveEntry).isOverdue(clock.millis());
 
         deadlineList.changeEntryState(entryToChange, newState);
 
@@ -478,18 +516,8 @@ public class EntryBook implements ReadOnlyEntryBook {
      */
     private void syncMasterTagListWith(ReadOnlyEntry readOnlyEntry) {
         Entry entry = convertToEntry(readOnlyEntry);
-        final UniqueTagList entryTags = new UniqueTagList(entry.getTags());
-        tags.mergeFrom(entryTags);
-
-        // Create map with values = tag object references in the master list
-        // used for checking entry tag references
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        tags.forEach(tag -> masterTagObjects.put(tag, tag));
-
-        // Rebuild the list of entry tags to point to the relevant tags in the master tag list.
-        final Set<Tag> correctTagReferences = new HashSet<>();
-        entryTags.forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
-        entry.setTags(correctTagReferences);
+        tags.mergeFrom(new UniqueTagList(entry.getTags()));
+        relinkTagsToMasterTagList(entry, getMasterTagObjects());
     }
 
     // @@author A0126623L-reused
@@ -497,15 +525,47 @@ public class EntryBook implements ReadOnlyEntryBook {
      * Ensures that every tag in these entries:
      * - exists in the master list {@link #tags}
      * - points to a Tag object in the master list
+     * The master list is merged with and looked up once for all the entries.
      *
      * @see #syncMasterTagListWith(Entry)
      */
     private void syncMasterTagListWith(EntryList entries) {
-        entries.forEach(this::syncMasterTagListWith);
+        final Set<Tag> entryTags = new LinkedHashSet<>();
+        entries.forEach(entry -> entryTags.addAll(entry.getTags()));
+        tags.mergeFrom(new UniqueTagList(entryTags));
+
+        final Map<Tag, Tag> masterTagObjects = getMasterTagObjects();
+        entries.forEach(entry -> relinkTagsToMasterTagList(entry, masterTagObjects));
+    }
+
+    /**
+     * Creates map with values = tag object references in the master list
+     * used for checking entry tag references
+     */
+    private Map<Tag, Tag> getMasterTagObjects() {
+        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
+        tags.forEach(tag -> masterTagObjects.put(tag, tag));
+        return masterTagObjects;
+    }
+
+    /**
+     * Rebuilds the list of entry tags to point to the relevant tags in the master tag list.
+     */
+    private void relinkTagsToMasterTagList(Entry entry, Map<Tag, Tag> masterTagObjects) {
+        final Set<Tag> correctTagReferences = new HashSet<>();
+        entry.getTags().forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
+        entry.setTags(correctTagReferences);
     }
 
     // ================= Util Methods =================
 
+    /**
+     * Sets the clock that tells whether the entries added, edited or made active are overdue.
+     */
+    public void setClock(Clock clock) {
+        this.clock = requireNonNull(clock);
+    }
+
     // @@author A0125586X
     public void setComparators(Comparator<ReadOnlyEntry> eventComparator,
                                Comparator<ReadOnlyEntry> deadlineComparator,
@@ -525,6 +585,159 @@ public class EntryBook implements ReadOnlyEntryBook {
                + " tags";
     }
 
+    /**
+     * Returns an immutable snapshot of the current data in the entry book.
+     * The entry lists keep their snapshots up to date as they change, so this takes O(1) time in the number
+     * of entries, and only copies the tag list.
+     */
+    public EntryBookSnapshot getSnapshot() {
+        return new EntryBookSnapshot(eventList.getSnapshot(), deadlineList.getSnapshot(),
+                                     floatingTaskList.getSnapshot(), tags.asObservableList());
+    }
+
+    // ================= Change Recording =================
+
+    /**
+     * Starts recording the changes made to this entry book, to be taken as deltas by {@link #takeDelta()}.
+     */
+    public void startRecordingChanges() {
+        isRecordingChanges = true;
+        clearPendingChanges();
+        tagsAtLastDelta = new ArrayList<>(tags.asObservableList());
+    }
+
+    /**
+     * Records that the snapshot copies {@code removed} were removed at index {@code from} of the list of their
+     * type, and the copies {@code added} were then inserted from index {@code from} onwards.
+     * A copy that is added and then removed again before the delta is taken is left out of the delta.
+     */
+    private void recordChange(int from, List<ReadOnlyEntry> removed, List<ReadOnlyEntry> added) {
+        if (!isRecordingChanges) {
+            return;
+        }
+        for (ReadOnlyEntry entry : removed) {
+            if (pendingAddedEntrySet.remove(entry)) {
+                int index = pendingAddedEntries.size() - 1;
+                while (pendingAddedEntries.get(index) != entry) {
+                    --index;
+                }
+                pendingAddedEntries.remove(index);
+                pendingAddedIndices.remove(index);
+            } else {
+                pendingRemovedEntries.add(entry);
+                pendingRemovedIndices.add(from);
+            }
+        }
+        for (int i = 0; i < added.size(); ++i) {
+            pendingAddedEntries.add(added.get(i));
+            pendingAddedIndices.add(from + i);
+            pendingAddedEntrySet.add(added.get(i));
+        }
+    }
+
+    private void clearPendingChanges() {
+        pendingRemovedEntries.clear();
+        pendingRemovedIndices.clear();
+        pendingAddedEntries.clear();
+        pendingAddedIndices.clear();
+        pendingAddedEntrySet.clear();
+    }
+
+    /**
+     * Returns the changes made to this entry book since changes started being recorded or the last delta was
+     * taken, and starts a new delta.
+     */
+    public EntryBookDelta takeDelta() {
+        assert isRecordingChanges : "Changes are not being recorded";
+        List<Tag> currentTags = new ArrayList<>(tags.asObservableList());
+        boolean haveTagsChanged = !currentTags.equals(tagsAtLastDelta);
+        EntryBookDelta delta = new EntryBookDelta(pendingRemovedEntries, pendingRemovedIndices,
+                                                  pendingAddedEntries, pendingAddedIndices,
+                                                  haveTagsChanged ? tagsAtLastDelta : null,
+                                                  haveTagsChanged ? currentTags : null);
+        clearPendingChanges();
+        tagsAtLastDelta = currentTags;
+        return delta;
+    }
+
+    /**
+     * Applies {@code delta}, which was taken from an entry book with the same data as this one, by removing its
+     * removed entries and adding copies of its added entries at their recorded places where they are still
+     * ordered correctly, without checking for overlapping or overdue entries.
+     * The changes it makes are not recorded in the next delta.
+     *
+     * @return the changes made, which hold the snapshot copies of the entries added, or {@code delta} itself if
+     *         changes are not being recorded.
+     * @throws EntryNotFoundException if an entry removed by {@code delta} is not in this entry book, or an entry
+     *             added by it is already in this entry book, so that {@code delta} does not match it. This entry
+     *             book is then left unchanged.
+     */
+    public EntryBookDelta applyDelta(EntryBookDelta delta) throws EntryNotFoundException {
+        requireNonNull(delta);
+        List<ReadOnlyEntry> removedEntries = delta.getRemovedEntries();
+        for (int i = 0; i < removedEntries.size(); ++i) {
+            ReadOnlyEntry entry = removedEntries.get(i);
+            if (!getEntrySubtypeList(entry).containsSame(entry, delta.getRemovedIndices().get(i))) {
+                throw new EntryNotFoundException();
+            }
+        }
+        Set<ReadOnlyEntry> removedEntrySet = new HashSet<>(removedEntries);
+        for (ReadOnlyEntry entry : delta.getAddedEntries()) {
+            if (getEntrySubtypeList(entry).isDuplicate(entry) && !removedEntrySet.contains(entry)) {
+                throw new EntryNotFoundException();
+            }
+        }
+
+        for (int i = 0; i < removedEntries.size(); ++i) {
+            ReadOnlyEntry entry = removedEntries.get(i);
+            Entry removed = getEntrySubtypeList(entry).removeSame(entry, delta.getRemovedIndices().get(i));
+            allEntriesList.removeSame(removed, -1);
+        }
+        try {
+            for (int i = 0; i < delta.getAddedEntries().size(); ++i) {
+                ReadOnlyEntry entry = delta.getAddedEntries().get(i);
+                Entry copy = EntryBuilder.build(entry);
+                copy.setState(entry.getState());
+                getEntrySubtypeList(copy).add(delta.getAddedIndices().get(i), copy);
+                syncMasterTagListWith(copy);
+                allEntriesList.add(copy);
+            }
+            if (delta.getTagsAfter() != null) {
+                setTags(delta.getTagsAfter());
+            }
+        } catch (DuplicateEntryException e) {
+            throw new AssertionError("Entries added by a delta are checked to not be in the entry book", e);
+        } catch (UniqueTagList.DuplicateTagException e) {
+            throw new AssertionError("Deltas should not have duplicate tags", e);
+        }
+
+        logger.fine("EntryBook applied delta: " + delta);
+        return isRecordingChanges ? takeDelta() : delta;
+    }
+
+    private EntryList getEntrySubtypeList(ReadOnlyEntry entry) {
+        if (entry instanceof Event) {
+            return eventList;
+        } else if (entry instanceof Deadline) {
+            return deadlineList;
+        } else {
+            assert (entry instanceof FloatingTask);
+            return floatingTaskList;
+        }
+    }
+
+    /**
+     * Returns a new set of the entries whose search key may contain {@code keyword}, which includes every entry
+     * whose search key does contain it, or null if {@code keyword} is too short to be looked up.
+     * The candidates still have to be tested against the keyword.
+     *
+     * @see ReadOnlyEntry#getSearchKey()
+     */
+    public Set<ReadOnlyEntry> getSearchCandidates(String keyword) {
+        requireNonNull(keyword);
+        return searchKeyIndex.getCandidates(keyword);
+    }
+
     @Override
     public ObservableList<ReadOnlyEntry> getAllEntries() {
         return new UnmodifiableObservableList<>(allEntriesList.asObservableList());
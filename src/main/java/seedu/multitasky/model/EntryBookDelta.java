@@ -0,0 +1,126 @@
+package seedu.multitasky.model;
+
+import static seedu.multitasky.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+import seedu.multitasky.model.tag.Tag;
+
+/**
+ * An immutable record of the changes made to an {@link EntryBook} by one action: the entries removed from it,
+ * the entries added to it, and the tag list before and after if it changed.
+ * The entries are the unchanging copies kept by the entry book's snapshots, so a delta shares them with the
+ * snapshots instead of copying them, and takes memory in proportion to the size of the change.
+ * Each entry is recorded with its index in the list of its type when it was removed or added, in the order it
+ * was removed or added, so that entries brought back can be put back in their old places.
+ */
+public class EntryBookDelta {
+
+    private final List<ReadOnlyEntry> removedEntries;
+    private final List<Integer> removedIndices;
+    private final List<ReadOnlyEntry> addedEntries;
+    private final List<Integer> addedIndices;
+    private final List<Tag> tagsBefore;
+    private final List<Tag> tagsAfter;
+
+    /**
+     * @param tagsBefore the tag list before the change, or null if the tag list did not change.
+     * @param tagsAfter the tag list after the change, or null if the tag list did not change.
+     */
+    public EntryBookDelta(List<ReadOnlyEntry> removedEntries, List<Integer> removedIndices,
+                          List<ReadOnlyEntry> addedEntries, List<Integer> addedIndices,
+                          List<Tag> tagsBefore, List<Tag> tagsAfter) {
+        requireAllNonNull(removedEntries, removedIndices, addedEntries, addedIndices);
+        assert removedEntries.size() == removedIndices.size() && addedEntries.size() == addedIndices.size();
+        assert (tagsBefore == null) == (tagsAfter == null);
+        this.removedEntries = Collections.unmodifiableList(new ArrayList<>(removedEntries));
+        this.removedIndices = Collections.unmodifiableList(new ArrayList<>(removedIndices));
+        this.addedEntries = Collections.unmodifiableList(new ArrayList<>(addedEntries));
+        this.addedIndices = Collections.unmodifiableList(new ArrayList<>(addedIndices));
+        this.tagsBefore = tagsBefore == null ? null : Collections.unmodifiableList(new ArrayList<>(tagsBefore));
+        this.tagsAfter = tagsAfter == null ? null : Collections.unmodifiableList(new ArrayList<>(tagsAfter));
+    }
+
+    public List<ReadOnlyEntry> getRemovedEntries() {
+        return removedEntries;
+    }
+
+    public List<Integer> getRemovedIndices() {
+        return removedIndices;
+    }
+
+    public List<ReadOnlyEntry> getAddedEntries() {
+        return addedEntries;
+    }
+
+    public List<Integer> getAddedIndices() {
+        return addedIndices;
+    }
+
+    /**
+     * Returns the tag list before the change, or null if the tag list did not change.
+     */
+    public List<Tag> getTagsBefore() {
+        return tagsBefore;
+    }
+
+    /**
+     * Returns the tag list after the change, or null if the tag list did not change.
+     */
+    public List<Tag> getTagsAfter() {
+        return tagsAfter;
+    }
+
+    public boolean isEmpty() {
+        return removedEntries.isEmpty() && addedEntries.isEmpty() && tagsAfter == null;
+    }
+
+    /**
+     * Returns the number of entries recorded in this delta, as a measure of the memory it takes.
+     */
+    public int size() {
+        return removedEntries.size() + addedEntries.size();
+    }
+
+    /**
+     * Returns the delta that reverses this one, which brings back the removed entries in the reverse of the order
+     * they were removed in.
+     */
+    public EntryBookDelta inverse() {
+        List<ReadOnlyEntry> reversedRemovedEntries = new ArrayList<>(removedEntries);
+        List<Integer> reversedRemovedIndices = new ArrayList<>(removedIndices);
+        List<ReadOnlyEntry> reversedAddedEntries = new ArrayList<>(addedEntries);
+        List<Integer> reversedAddedIndices = new ArrayList<>(addedIndices);
+        Collections.reverse(reversedRemovedEntries);
+        Collections.reverse(reversedRemovedIndices);
+        Collections.reverse(reversedAddedEntries);
+        Collections.reverse(reversedAddedIndices);
+        return new EntryBookDelta(reversedAddedEntries, reversedAddedIndices,
+                                  reversedRemovedEntries, reversedRemovedIndices, tagsAfter, tagsBefore);
+    }
+
+    /**
+     * Returns true if {@code after} is {@code before} with only its state changed, or unchanged.
+     */
+    public static boolean isSameExceptState(ReadOnlyEntry before, ReadOnlyEntry after) {
+        return before.getClass() == after.getClass() && before.getName().equals(after.getName())
+               && isSameTime(before.getStartDateAndTime(), after.getStartDateAndTime())
+               && isSameTime(before.getEndDateAndTime(), after.getEndDateAndTime())
+               && before.getTags().equals(after.getTags());
+    }
+
+    private static boolean isSameTime(Calendar before, Calendar after) {
+        return before == null ? after == null : after != null && before.getTimeInMillis() == after.getTimeInMillis();
+    }
+
+    @Override
+    public String toString() {
+        return removedEntries.size() + " entries removed, " + addedEntries.size() + " entries added"
+               + (tagsAfter == null ? "" : ", tags changed");
+    }
+
+}
@@ -0,0 +1,93 @@
+package seedu.multitasky.model;
+
+import static seedu.multitasky.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.multitasky.commons.core.UnmodifiableObservableList;
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+import seedu.multitasky.model.entry.util.PersistentList;
+import seedu.multitasky.model.tag.Tag;
+
+/**
+ * An immutable snapshot of the data in an {@link EntryBook} at one point in time.
+ * The entries are held in persistent lists that share the entries which did not change with the snapshots
+ * taken before and after, so a snapshot is taken without copying the entry book.
+ * Snapshots are never changed, so they can be read from any thread.
+ */
+public class EntryBookSnapshot implements ReadOnlyEntryBook {
+
+    private final PersistentList<ReadOnlyEntry> events;
+    private final PersistentList<ReadOnlyEntry> deadlines;
+    private final PersistentList<ReadOnlyEntry> floatingTasks;
+    private final List<Tag> tags;
+
+    // Observable views of the persistent lists, created on first use.
+    private volatile ObservableList<ReadOnlyEntry> eventList;
+    private volatile ObservableList<ReadOnlyEntry> deadlineList;
+    private volatile ObservableList<ReadOnlyEntry> floatingTaskList;
+
+    public EntryBookSnapshot(PersistentList<ReadOnlyEntry> events, PersistentList<ReadOnlyEntry> deadlines,
+                             PersistentList<ReadOnlyEntry> floatingTasks, List<Tag> tags) {
+        requireAllNonNull(events, deadlines, floatingTasks, tags);
+        this.events = events;
+        this.deadlines = deadlines;
+        this.floatingTasks = floatingTasks;
+        this.tags = new ArrayList<>(tags);
+    }
+
+    /**
+     * Returns the events, deadlines and floating tasks in the snapshot, in that order.
+     */
+    @Override
+    public ObservableList<ReadOnlyEntry> getAllEntries() {
+        List<ReadOnlyEntry> allEntries = new ArrayList<>(events.size() + deadlines.size() + floatingTasks.size());
+        allEntries.addAll(getEventList());
+        allEntries.addAll(getDeadlineList());
+        allEntries.addAll(getFloatingTaskList());
+        return toObservableList(allEntries);
+    }
+
+    @Override
+    public ObservableList<ReadOnlyEntry> getEventList() {
+        if (eventList == null) {
+            eventList = toObservableList(events.toList());
+        }
+        return eventList;
+    }
+
+    @Override
+    public ObservableList<ReadOnlyEntry> getDeadlineList() {
+        if (deadlineList == null) {
+            deadlineList = toObservableList(deadlines.toList());
+        }
+        return deadlineList;
+    }
+
+    @Override
+    public ObservableList<ReadOnlyEntry> getFloatingTaskList() {
+        if (floatingTaskList == null) {
+            floatingTaskList = toObservableList(floatingTasks.toList());
+        }
+        return floatingTaskList;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return toObservableList(tags);
+    }
+
+    private static <T> ObservableList<T> toObservableList(List<T> list) {
+        return new UnmodifiableObservableList<>(FXCollections.observableList(list));
+    }
+
+    @Override
+    public String toString() {
+        return events.size() + " events, " + deadlines.size() + " deadlines, " + floatingTasks.size()
+               + " floating tasks, " + tags.size() + " tags";
+    }
+
+}
@@ -2,12 +2,17 @@ package seedu.multitasky.model;
 
 import static seedu.multitasky.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -15,9 +20,13 @@ import javafx.collections.transformation.FilteredList;
 import seedu.multitasky.commons.core.ComponentManager;
 import seedu.multitasky.commons.core.LogsCenter;
 import seedu.multitasky.commons.core.UnmodifiableObservableList;
+import seedu.multitasky.commons.events.model.BulkClearedEvent;
+import seedu.multitasky.commons.events.model.EntryAddedEvent;
 import seedu.multitasky.commons.events.model.EntryBookChangedEvent;
-import seedu.multitasky.commons.events.storage.EntryBookToRedoEvent;
-import seedu.multitasky.commons.events.storage.EntryBookToUndoEvent;
+import seedu.multitasky.commons.events.model.EntryOverdueEvent;
+import seedu.multitasky.commons.events.model.EntryRemovedEvent;
+import seedu.multitasky.commons.events.model.EntryStateChangedEvent;
+import seedu.multitasky.commons.events.model.EntryUpdatedEvent;
 import seedu.multitasky.commons.events.storage.FilePathChangedEvent;
 import seedu.multitasky.commons.events.storage.LoadDataFromFilePathEvent;
 import seedu.multitasky.commons.exceptions.IllegalValueException;
@@ -32,7 +41,6 @@ import seedu.multitasky.model.entry.exceptions.EntryNotFoundException;
 import seedu.multitasky.model.entry.exceptions.EntryOverdueException;
 import seedu.multitasky.model.entry.exceptions.OverlappingAndOverdueEventException;
 import seedu.multitasky.model.entry.exceptions.OverlappingEventException;
-import seedu.multitasky.model.tag.Tag;
 import seedu.multitasky.storage.exception.NothingToRedoException;
 import seedu.multitasky.storage.exception.NothingToUndoException;
 
@@ -42,12 +50,22 @@ import seedu.multitasky.storage.exception.NothingToUndoException;
  * model should be synchronized.
  */
 public class ModelManager extends ComponentManager implements Model {
+    /**
+     * The most entries changed by one action that are raised as separate changes; larger changes are raised as
+     * one {@link BulkClearedEvent}.
+     */
+    public static final int MAX_SEPARATE_CHANGES = 100;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final EntryBook entryBook;
+    private final UndoHistory undoHistory;
     private final FilteredList<ReadOnlyEntry> filteredEventList;
     private final FilteredList<ReadOnlyEntry> filteredDeadlineList;
     private final FilteredList<ReadOnlyEntry> filteredFloatingTaskList;
+    private final OverdueScheduler overdueScheduler;
+    /** The version of the entry book, which is increased by each change raised. */
+    private long version;
 
     /**
      * Initializes a ModelManager with the given entryBook and userPrefs.
@@ -55,15 +73,37 @@ public class ModelManager extends ComponentManager implements Model {
      * will be copied. Entries themselves will not be copied.
      */
     public ModelManager(ReadOnlyEntryBook entryBook, UserPrefs userPrefs) {
+        this(entryBook, userPrefs,
+             new UndoHistory(userPrefs.getUndoHistoryDepth(), userPrefs.getUndoHistoryMaxEntries()));
+    }
+
+    /**
+     * Initializes a ModelManager with the given entryBook and userPrefs, which records the changes made to the
+     * entry book in {@code undoHistory}.
+     */
+    public ModelManager(ReadOnlyEntryBook entryBook, UserPrefs userPrefs, UndoHistory undoHistory) {
+        this(entryBook, userPrefs, undoHistory, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes a ModelManager with the given entryBook and userPrefs, which records the changes made to the
+     * entry book in {@code undoHistory}, and tells when entries become overdue with {@code clock}.
+     */
+    public ModelManager(ReadOnlyEntryBook entryBook, UserPrefs userPrefs, UndoHistory undoHistory, Clock clock) {
         super();
-        requireAllNonNull(entryBook, userPrefs);
+        requireAllNonNull(entryBook, userPrefs, undoHistory, clock);
 
         logger.fine("Initializing with entry book: " + entryBook + " and user prefs " + userPrefs);
 
         this.entryBook = new EntryBook(entryBook);
+        this.entryBook.setClock(clock);
+        this.entryBook.startRecordingChanges();
+        this.undoHistory = undoHistory;
         filteredEventList = new FilteredList<>(this.entryBook.getEventList());
         filteredDeadlineList = new FilteredList<>(this.entryBook.getDeadlineList());
         filteredFloatingTaskList = new FilteredList<>(this.entryBook.getFloatingTaskList());
+        overdueScheduler = new OverdueScheduler(clock, entry -> raise(new EntryOverdueEvent(entry)));
+        overdueScheduler.reset(this.entryBook.getSnapshot().getAllEntries());
     }
 
     public ModelManager() {
@@ -75,7 +115,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void resetData(ReadOnlyEntryBook newData) {
         entryBook.resetData(newData);
-        indicateEntryBookChanged();
+        indicateEntryBookReplaced();
     }
 
     @Override
@@ -118,17 +158,17 @@ public class ModelManager extends ComponentManager implements Model {
             } else { // updating to a different type of entry
                 changeEntryType(target, editedEntry);
             }
-        } catch (EntryNotFoundException | OverlappingEventException
-                 | OverlappingAndOverdueEventException | EntryOverdueException e) {
+        } finally {
+            // Takes the changes made, if any, whichever way the update ends
             indicateEntryBookChanged();
-            throw e;
         }
-        indicateEntryBookChanged();
     }
 
     /**
      * Change a given entry {@code target} to a different entry type {@code editedEntry} by
      * first removing the {@code target} entry from the EntryBook followed by adding {@code editedEntry}.
+     * If {@code editedEntry} is a duplicate, the removal is reversed, putting {@code target} back in its place,
+     * and leaves no changes to be recorded.
      * @param target
      * @param editedEntry
      * @throws DuplicateEntryException
@@ -144,12 +184,11 @@ public class ModelManager extends ComponentManager implements Model {
         try {
             entryBook.addEntry(editedEntry);
         } catch (DuplicateEntryException dee) {
-            // revert back to initial state
+            // revert back to initial state, without checking for overlaps and overdue entries
             try {
-                entryBook.addEntry(target);
-            } catch (OverlappingEventException | OverlappingAndOverdueEventException
-                     | EntryOverdueException e) {
-                // Do nothing. Users do not need to be alerted of overlaps and overdue for reverting
+                entryBook.applyDelta(entryBook.takeDelta().inverse());
+            } catch (EntryNotFoundException e) {
+                throw new AssertionError("The entries just changed are in the entry book", e);
             }
             throw dee;
         }
@@ -172,7 +211,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void clearStateSpecificEntries(Entry.State state) {
         entryBook.clearStateSpecificEntries(state);
-        indicateEntryBookChanged();
+        indicateEntryBookReplaced();
     }
 
     // =========== Filtered Entry List Accessors ===========
@@ -224,34 +263,141 @@ public class ModelManager extends ComponentManager implements Model {
         updateAllFilteredLists(keywords, startDate, endDate, states, searches);
     }
 
+    /**
+     * Attempts the searches in order, and shows the results of the first non-power search with at least 1 result.
+     * Each search is evaluated in a single pass without updating the filtered lists. A non-power search only tests
+     * the entries that the search key index of the entry book finds may contain its keywords.
+     * A power search finds the lowest level at which each entry matches, and keeps only the entries matching at
+     * the lowest level of all. As with searching level by level, the results of a power search are replaced by
+     * those of any later search.
+     * The filtered lists are then updated once each, reusing the results of the search.
+     */
     private void updateAllFilteredLists(Set<String> keywords, Calendar startDate, Calendar endDate,
                                         List<Entry.State> states, Search... searches) {
-        NameDateStateQualifier qualifier;
+        NameDateStateQualifier qualifier = null;
+        Set<ReadOnlyEntry> matches = null;
         for (Search search : searches) {
             if (search == Search.POWER_AND || search == Search.POWER_OR) {
-                for (int level = PowerMatch.MIN_LEVEL; level <= PowerMatch.MAX_LEVEL; ++level) {
-                    qualifier = new NameDateStateQualifier(keywords, startDate, endDate, states, search,
-                                                           level);
-                    if (filteredResultNonZero(qualifier)) {
-                        break; // No need to search further
+                qualifier = new NameDateStateQualifier(keywords, startDate, endDate, states, search,
+                                                       PowerMatch.UNUSED);
+                Map<ReadOnlyEntry, Integer> matchLevels = findLowestMatchLevels(qualifier);
+                int bestLevel = matchLevels.values().stream().min(Integer::compare).orElse(PowerMatch.MAX_LEVEL);
+                qualifier = new NameDateStateQualifier(keywords, startDate, endDate, states, search, bestLevel);
+                matches = newIdentitySet();
+                for (Map.Entry<ReadOnlyEntry, Integer> matchLevel : matchLevels.entrySet()) {
+                    if (matchLevel.getValue() == bestLevel) {
+                        matches.add(matchLevel.getKey());
                     }
                 }
             } else {
-                qualifier = new NameDateStateQualifier(keywords, startDate, endDate, states, search, -1);
-                if (filteredResultNonZero(qualifier)) {
+                qualifier = new NameDateStateQualifier(keywords, startDate, endDate, states, search,
+                                                       PowerMatch.UNUSED);
+                matches = newIdentitySet();
+                for (ReadOnlyEntry entry : findSearchCandidates(keywords, search)) {
+                    if (qualifier.run(entry)) {
+                        matches.add(entry);
+                    }
+                }
+                if (!matches.isEmpty()) {
                     break; // No need to search further
                 }
             }
         }
+        if (qualifier != null) {
+            setAllFilteredListPredicates(new PrecomputedExpression(new PredicateExpression(qualifier), matches));
+        }
+    }
+
+    /**
+     * Returns the lowest level at which each entry matches the power search of {@code qualifier}, leaving out
+     * entries that do not match at any level. Levels higher than the lowest level found so far are not tried.
+     * An entry can only match at the substring or prefix level if its search key contains the keywords, so those
+     * levels are first tried on the candidates from the search key index, and every entry is only tried at the
+     * higher levels if none of the candidates match.
+     */
+    private Map<ReadOnlyEntry, Integer> findLowestMatchLevels(NameDateStateQualifier qualifier) {
+        Map<ReadOnlyEntry, Integer> matchLevels = findLowestMatchLevels(
+                qualifier, findSearchCandidates(qualifier.nameAndTagKeywords, qualifier.search),
+                PowerMatch.SUBSTRING_LEVEL, PowerMatch.PREFIX_LEVEL);
+        if (matchLevels.isEmpty()) {
+            matchLevels = findLowestMatchLevels(qualifier, getAllUnfilteredEntries(),
+                                                PowerMatch.PREFIX_LEVEL + 1, PowerMatch.MAX_LEVEL);
+        }
+        return matchLevels;
+    }
+
+    /**
+     * Returns the lowest level from {@code minLevel} to {@code maxLevel} at which each of {@code entries} matches
+     * the power search of {@code qualifier}, leaving out entries that do not match at any of those levels.
+     */
+    private Map<ReadOnlyEntry, Integer> findLowestMatchLevels(NameDateStateQualifier qualifier,
+                                                              Collection<ReadOnlyEntry> entries,
+                                                              int minLevel, int maxLevel) {
+        Map<ReadOnlyEntry, Integer> matchLevels = new IdentityHashMap<>();
+        int bestLevel = maxLevel;
+        for (ReadOnlyEntry entry : entries) {
+            int matchLevel = qualifier.findLowestMatchLevel(entry, minLevel, bestLevel);
+            if (matchLevel != PowerMatch.UNUSED) {
+                matchLevels.put(entry, matchLevel);
+                bestLevel = matchLevel;
+            }
+        }
+        return matchLevels;
+    }
+
+    /**
+     * Returns the entries that may contain the keywords as required by {@code search}, by intersecting (for AND
+     * searches) or joining (for OR searches) the candidates of each keyword in the search key index of the entry
+     * book. Keywords too short to be looked up do not narrow down an AND search, and widen an OR search to all
+     * entries.
+     */
+    private Collection<ReadOnlyEntry> findSearchCandidates(Set<String> keywords, Search search) {
+        boolean isAndSearch = search == Search.AND || search == Search.POWER_AND;
+        Set<ReadOnlyEntry> candidates = null;
+        for (String keyword : keywords) {
+            Set<ReadOnlyEntry> keywordCandidates = entryBook.getSearchCandidates(keyword.trim().toLowerCase());
+            if (keywordCandidates == null) {
+                if (!isAndSearch) {
+                    return getAllUnfilteredEntries();
+                }
+            } else if (candidates == null) {
+                candidates = keywordCandidates;
+            } else if (isAndSearch) {
+                candidates.retainAll(keywordCandidates);
+            } else {
+                candidates.addAll(keywordCandidates);
+            }
+        }
+        return candidates == null ? getAllUnfilteredEntries() : candidates;
+    }
+
+    /**
+     * Returns the entries of the event, deadline and floating task lists that are filtered.
+     */
+    private List<ReadOnlyEntry> getAllUnfilteredEntries() {
+        List<ReadOnlyEntry> allEntries = new ArrayList<>(entryBook.getEventList().size()
+                                                         + entryBook.getDeadlineList().size()
+                                                         + entryBook.getFloatingTaskList().size());
+        allEntries.addAll(entryBook.getEventList());
+        allEntries.addAll(entryBook.getDeadlineList());
+        allEntries.addAll(entryBook.getFloatingTaskList());
+        return allEntries;
     }
 
-    private boolean filteredResultNonZero(NameDateStateQualifier qualifier) {
-        updateFilteredEventList(new PredicateExpression(qualifier));
-        updateFilteredDeadlineList(new PredicateExpression(qualifier));
-        updateFilteredFloatingTaskList(new PredicateExpression(qualifier));
-        return ((getFilteredEventList().size()
-                 + getFilteredDeadlineList().size()
-                 + getFilteredFloatingTaskList().size()) > 0);
+    private static Set<ReadOnlyEntry> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Updates the filter of all filtered lists with {@code expression}.
+     * The results precomputed by {@code expression} are only used while the filters are being updated, after
+     * which entries that are added or changed are evaluated afresh.
+     */
+    private void setAllFilteredListPredicates(PrecomputedExpression expression) {
+        updateFilteredEventList(expression);
+        updateFilteredDeadlineList(expression);
+        updateFilteredFloatingTaskList(expression);
+        expression.clearPrecomputedResults();
     }
 
     // @@author A0126623L
@@ -335,6 +481,33 @@ public class ModelManager extends ComponentManager implements Model {
 
     }
 
+    /**
+     * An expression that reuses the matches already computed for the entries, until they are cleared.
+     */
+    private class PrecomputedExpression implements Expression {
+
+        private final Expression expression;
+        private Set<ReadOnlyEntry> precomputedMatches;
+
+        PrecomputedExpression(Expression expression, Set<ReadOnlyEntry> precomputedMatches) {
+            this.expression = expression;
+            this.precomputedMatches = precomputedMatches;
+        }
+
+        @Override
+        public boolean satisfies(ReadOnlyEntry entry) {
+            if (precomputedMatches != null) {
+                return precomputedMatches.contains(entry);
+            }
+            return expression.satisfies(entry);
+        }
+
+        void clearPrecomputedResults() {
+            precomputedMatches = null;
+        }
+
+    }
+
     interface Qualifier {
         boolean run(ReadOnlyEntry entry);
 
@@ -357,6 +530,11 @@ public class ModelManager extends ComponentManager implements Model {
         protected Search search;
         protected int level;
 
+        private final PowerMatch powerMatch = new PowerMatch();
+        // Copied into arrays so that they can be iterated over for every entry without allocating.
+        private final String[] keywords;
+        private final String[] normalizedKeywords;
+
         /**
          * Constructs the NameDateStateQualifier.
          *
@@ -386,6 +564,11 @@ public class ModelManager extends ComponentManager implements Model {
             }
 
             this.nameAndTagKeywords = nameAndTagKeywords;
+            this.keywords = nameAndTagKeywords.toArray(new String[nameAndTagKeywords.size()]);
+            this.normalizedKeywords = new String[keywords.length];
+            for (int i = 0; i < keywords.length; ++i) {
+                normalizedKeywords[i] = keywords[i].trim().toLowerCase();
+            }
             this.startDate = startDate;
             this.endDate = endDate;
             this.states = states;
@@ -405,14 +588,29 @@ public class ModelManager extends ComponentManager implements Model {
 
         @Override
         public boolean run(ReadOnlyEntry entry) {
-            if (matchesState(entry) && matchesNameAndTagKeywords(entry)) {
-                if (entry instanceof FloatingTask
-                    || entry instanceof Deadline && isWithinRange(entry.getEndDateAndTime())
-                    || entry instanceof Event && isWithinRange(entry.getStartDateAndTime())) {
-                    return true;
+            return matchesState(entry) && matchesNameAndTagKeywords(entry) && matchesDate(entry);
+        }
+
+        /**
+         * Returns the lowest power search level, from {@code minLevel} to {@code maxLevel}, at which {@code entry}
+         * matches this qualifier, or {@code PowerMatch.UNUSED} if it does not match at any of those levels.
+         */
+        public int findLowestMatchLevel(ReadOnlyEntry entry, int minLevel, int maxLevel) {
+            if (!matchesState(entry) || !matchesDate(entry)) {
+                return PowerMatch.UNUSED;
+            }
+            for (int level = minLevel; level <= maxLevel; ++level) {
+                if (matchesNameAndTagKeywords(entry.getSearchKey(), level)) {
+                    return level;
                 }
             }
-            return false;
+            return PowerMatch.UNUSED;
+        }
+
+        protected boolean matchesDate(ReadOnlyEntry entry) {
+            return entry instanceof FloatingTask
+                   || entry instanceof Deadline && isWithinRange(entry.getEndDateAndTime())
+                   || entry instanceof Event && isWithinRange(entry.getStartDateAndTime());
         }
 
         protected boolean matchesState(ReadOnlyEntry entry) {
@@ -422,39 +620,42 @@ public class ModelManager extends ComponentManager implements Model {
         }
 
         protected boolean matchesNameAndTagKeywords(ReadOnlyEntry entry) {
-            String nameAndTags = parseWordsInNameAndTags(entry).trim().toLowerCase();
+            return matchesNameAndTagKeywords(entry.getSearchKey(), level);
+        }
+
+        protected boolean matchesNameAndTagKeywords(String nameAndTags, int matchLevel) {
             switch (search) {
             case AND:
-                for (String keyword : nameAndTagKeywords) {
-                    if (!nameAndTags.contains(keyword.trim().toLowerCase())) {
+                for (String keyword : normalizedKeywords) {
+                    if (!nameAndTags.contains(keyword)) {
                         return false;
                     }
                 }
                 return true;
             case OR:
-                if (nameAndTagKeywords.size() == 0) {
+                if (keywords.length == 0) {
                     return true;
                 }
-                for (String keyword : nameAndTagKeywords) {
-                    if (nameAndTags.contains(keyword.trim().toLowerCase())) {
+                for (String keyword : normalizedKeywords) {
+                    if (nameAndTags.contains(keyword)) {
                         return true;
                     }
                 }
                 return false;
             case POWER_AND:
-                for (String keyword : nameAndTagKeywords) {
-                    if (!new PowerMatch().isMatch(level, keyword, nameAndTags)) {
+                for (String keyword : keywords) {
+                    if (!powerMatch.isMatch(matchLevel, keyword, nameAndTags)) {
                         return false;
                     }
                 }
                 return true;
             case POWER_OR:
             default:
-                if (nameAndTagKeywords.size() == 0) {
+                if (keywords.length == 0) {
                     return true;
                 }
-                for (String keyword : nameAndTagKeywords) {
-                    if (new PowerMatch().isMatch(level, keyword, nameAndTags)) {
+                for (String keyword : keywords) {
+                    if (powerMatch.isMatch(matchLevel, keyword, nameAndTags)) {
                         return true;
                     }
                 }
@@ -462,22 +663,6 @@ public class ModelManager extends ComponentManager implements Model {
             }
         }
 
-        // @@author A0126623L
-        /**
-         * Parses and concatenates all words in an entry's name and tags.
-         *
-         * @param entry
-         * @return String
-         */
-        protected String parseWordsInNameAndTags(ReadOnlyEntry entry) {
-            StringBuilder builder = new StringBuilder();
-            builder.append(entry.getName().fullName.replaceAll("\\s+", ""));
-            for (Tag t : entry.getTags()) {
-                builder.append(t.tagName);
-            }
-            return builder.toString();
-        }
-
         // @@author A0125586X
         /**
          * Checks if the given date to check is within the start and end dates of this Qualifier.
@@ -498,44 +683,108 @@ public class ModelManager extends ComponentManager implements Model {
 
     }
 
+    // =========== Overdue Entries ===========
+
+    /**
+     * Starts raising an {@link EntryOverdueEvent} for each active event and deadline as it becomes overdue,
+     * from a background thread.
+     */
+    public void startOverdueScheduler() {
+        overdueScheduler.start();
+    }
+
+    /**
+     * Raises an {@link EntryOverdueEvent} for each active event and deadline that has become overdue since it
+     * was last checked, and returns them.
+     */
+    public List<ReadOnlyEntry> raiseOverdueEntries() {
+        return overdueScheduler.reportOverdueEntries();
+    }
+
     // @@author A0132788U
     // ========== Storage-Related Operations ==========
 
-    /** Raises an event to indicate the model has changed */
+    /**
+     * Records the changes made to the entry book in the undo history, and raises an event for each change and an
+     * event with a snapshot of the entry book to indicate the model has changed
+     */
     private void indicateEntryBookChanged() {
-        raise(new EntryBookChangedEvent(entryBook));
+        EntryBookDelta delta = entryBook.takeDelta();
+        undoHistory.record(delta);
+        raiseChanges(delta, false);
     }
 
-    @Override
-    public void undoPreviousAction() throws NothingToUndoException {
-        indicateUndoAction();
+    /**
+     * Records the changes made to the entry book in the undo history, and raises them as one bulk change, as
+     * they replace many or all of its entries.
+     */
+    private void indicateEntryBookReplaced() {
+        EntryBookDelta delta = entryBook.takeDelta();
+        undoHistory.record(delta);
+        raiseChanges(delta, true);
     }
 
-    @Override
-    public void redoPreviousAction() throws NothingToRedoException {
-        indicateRedoAction();
+    /**
+     * Raises an event for each entry changed by {@code delta}, or one {@link BulkClearedEvent} if {@code isBulk}
+     * or it changed too many entries, followed by an {@link EntryBookChangedEvent}.
+     * An entry removed and another added by the same action are raised as one entry changed into the other.
+     */
+    private void raiseChanges(EntryBookDelta delta, boolean isBulk) {
+        overdueScheduler.apply(delta);
+        ReadOnlyEntryBook snapshot = entryBook.getSnapshot();
+        List<ReadOnlyEntry> removed = delta.getRemovedEntries();
+        List<ReadOnlyEntry> added = delta.getAddedEntries();
+        if (!delta.isEmpty() && (isBulk || delta.size() > MAX_SEPARATE_CHANGES)) {
+            raise(new BulkClearedEvent(++version, snapshot));
+        } else if (removed.size() == 1 && added.size() == 1) {
+            ReadOnlyEntry before = removed.get(0);
+            ReadOnlyEntry after = added.get(0);
+            raise(EntryBookDelta.isSameExceptState(before, after)
+                  ? new EntryStateChangedEvent(++version, before, after)
+                  : new EntryUpdatedEvent(++version, before, after));
+        } else {
+            for (ReadOnlyEntry entry : removed) {
+                raise(new EntryRemovedEvent(++version, entry));
+            }
+            for (ReadOnlyEntry entry : added) {
+                raise(new EntryAddedEvent(++version, entry));
+            }
+        }
+        raise(new EntryBookChangedEvent(snapshot, version));
     }
 
-    /** Raises an event when undo is entered by user and resets data to previous state to update the UI */
-    private void indicateUndoAction() throws NothingToUndoException {
-        EntryBookToUndoEvent undoEvent = new EntryBookToUndoEvent(entryBook, "");
-        raise(undoEvent);
-        if (undoEvent.getMessage().equals("undo successful")) {
-            entryBook.resetData(undoEvent.getData());
-        } else {
+    /**
+     * Reverses the latest change recorded in the undo history.
+     * If the entry book no longer matches the history, the history is cleared and nothing is undone.
+     */
+    @Override
+    public void undoPreviousAction() throws NothingToUndoException {
+        EntryBookDelta delta;
+        try {
+            delta = entryBook.applyDelta(undoHistory.undo().inverse());
+        } catch (EntryNotFoundException e) {
+            logger.warning("Undo history does not match the entry book, clearing it");
+            undoHistory.clear();
             throw new NothingToUndoException("");
         }
+        raiseChanges(delta, false);
     }
 
-    /** Raises an event when redo is entered by user and resets data to next state to update the UI */
-    private void indicateRedoAction() throws NothingToRedoException {
-        EntryBookToRedoEvent redoEvent;
-        raise(redoEvent = new EntryBookToRedoEvent(entryBook, ""));
-        if (redoEvent.getMessage().equals("redo successful")) {
-            entryBook.resetData(redoEvent.getData());
-        } else {
+    /**
+     * Applies again the latest change undone.
+     * If the entry book no longer matches the history, the history is cleared and nothing is redone.
+     */
+    @Override
+    public void redoPreviousAction() throws NothingToRedoException {
+        EntryBookDelta delta;
+        try {
+            delta = entryBook.applyDelta(undoHistory.redo());
+        } catch (EntryNotFoundException e) {
+            logger.warning("Undo history does not match the entry book, clearing it");
+            undoHistory.clear();
             throw new NothingToRedoException("");
         }
+        raiseChanges(delta, false);
     }
 
     /** Raises an event when new file path is entered by user */
@@ -551,7 +800,7 @@ public class ModelManager extends ComponentManager implements Model {
         raise(event = new LoadDataFromFilePathEvent(entryBook, newFilePath, ""));
         if (event.getMessage().equals("open successful")) {
             entryBook.resetData(event.getData());
-            indicateEntryBookChanged();
+            indicateEntryBookReplaced();
         } else {
             throw new IllegalValueException("load unsuccessful");
         }
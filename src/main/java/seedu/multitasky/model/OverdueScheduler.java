@@ -0,0 +1,205 @@
+package seedu.multitasky.model;
+
+import static seedu.multitasky.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import seedu.multitasky.model.entry.OverdueCapable;
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+
+/**
+ * Keeps track of when the active events and deadlines of an entry book become overdue, and reports each entry
+ * once, when the time of its {@link Clock} passes the entry's overdue time.
+ * The entries that are not yet overdue are kept in a queue ordered by overdue time, so finding the entries that
+ * have become overdue only looks at those entries, and the scheduler can sleep until the next one is due.
+ * The entries are the unchanging copies kept by the entry book's snapshots and deltas, and are told apart by
+ * identity, as an edited entry may be equal to the copy it replaces.
+ *
+ * Once {@link #start()} is called, the scheduler wakes itself up on a background thread when the next entry
+ * is due. Otherwise, {@link #reportOverdueEntries()} checks for entries that have become overdue, which lets
+ * tests control time through the clock.
+ */
+public class OverdueScheduler {
+
+    /**
+     * The longest the scheduler sleeps between checks, so that changes to the system time, such as after the
+     * computer wakes up, are noticed within this time.
+     */
+    public static final long MAX_SLEEP_MILLIS = 60 * 1000;
+
+    private static final Comparator<ReadOnlyEntry> BY_OVERDUE_TIME =
+            Comparator.comparingLong(entry -> ((OverdueCapable) entry).getOverdueTimeInMillis());
+
+    /** The thread that wakes up every started scheduler, which are only woken up once in a while. */
+    private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "OverdueScheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Clock clock;
+    private final Consumer<ReadOnlyEntry> listener;
+
+    /**
+     * The entries that are not yet overdue, by overdue time.
+     * Entries that are removed are left in the queue until they are due, or the queue is rebuilt, and are then
+     * skipped as they are no longer in {@link #scheduledEntries}.
+     */
+    private final PriorityQueue<ReadOnlyEntry> upcomingEntries = new PriorityQueue<>(BY_OVERDUE_TIME);
+    private final Set<ReadOnlyEntry> scheduledEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private boolean isStarted;
+    private ScheduledFuture<?> wakeUp;
+    private long wakeUpMillis = Long.MAX_VALUE;
+
+    /**
+     * Creates a scheduler that tells the time with {@code clock}, and reports each entry that becomes overdue
+     * to {@code listener}.
+     */
+    public OverdueScheduler(Clock clock, Consumer<ReadOnlyEntry> listener) {
+        requireAllNonNull(clock, listener);
+        this.clock = clock;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts waking up on a background thread to report the entries that become overdue as they become due.
+     */
+    public synchronized void start() {
+        isStarted = true;
+        scheduleWakeUp();
+    }
+
+    /**
+     * Stops waking up on the background thread.
+     */
+    public synchronized void stop() {
+        isStarted = false;
+        cancelWakeUp();
+    }
+
+    /**
+     * Replaces the entries kept track of with the active events and deadlines of {@code entries} that are not
+     * yet overdue.
+     */
+    public synchronized void reset(Collection<? extends ReadOnlyEntry> entries) {
+        upcomingEntries.clear();
+        scheduledEntries.clear();
+        entries.forEach(this::addEntry);
+        scheduleWakeUp();
+    }
+
+    /**
+     * Updates the entries kept track of with the entries removed and added by {@code delta}.
+     */
+    public synchronized void apply(EntryBookDelta delta) {
+        // Removed one by one, as removeAll may match the entries with equals() instead
+        delta.getRemovedEntries().forEach(scheduledEntries::remove);
+        delta.getAddedEntries().forEach(this::addEntry);
+        if (upcomingEntries.size() > 2 * scheduledEntries.size() + 64) {
+            upcomingEntries.retainAll(scheduledEntries); // Drops the entries that were removed
+        }
+        scheduleWakeUp();
+    }
+
+    /**
+     * Returns the time, in milliseconds since the epoch, after which the next entry becomes overdue, or
+     * {@code Long.MAX_VALUE} if no entry will.
+     */
+    public synchronized long getNextOverdueTimeInMillis() {
+        ReadOnlyEntry next = peekUpcomingEntry();
+        return next == null ? Long.MAX_VALUE : ((OverdueCapable) next).getOverdueTimeInMillis();
+    }
+
+    /**
+     * Reports the entries that have become overdue since they were last checked to the listener, in the order
+     * they became overdue, and returns them.
+     * The listener is called without holding the scheduler's lock, so it may change the entries kept track of.
+     */
+    public List<ReadOnlyEntry> reportOverdueEntries() {
+        List<ReadOnlyEntry> overdueEntries = takeOverdueEntries();
+        overdueEntries.forEach(listener);
+        return overdueEntries;
+    }
+
+    private synchronized List<ReadOnlyEntry> takeOverdueEntries() {
+        long now = clock.millis();
+        List<ReadOnlyEntry> overdueEntries = new ArrayList<>();
+        ReadOnlyEntry next;
+        while ((next = peekUpcomingEntry()) != null && ((OverdueCapable) next).getOverdueTimeInMillis() < now) {
+            upcomingEntries.poll();
+            scheduledEntries.remove(next);
+            overdueEntries.add(next);
+        }
+        wakeUpMillis = Long.MAX_VALUE;
+        scheduleWakeUp();
+        return overdueEntries;
+    }
+
+    /**
+     * Adds {@code entry} to the entries kept track of if it is an active event or deadline that is not yet
+     * overdue.
+     */
+    private void addEntry(ReadOnlyEntry entry) {
+        if (entry instanceof OverdueCapable && entry.isActive()
+            && ((OverdueCapable) entry).getOverdueTimeInMillis() >= clock.millis() && scheduledEntries.add(entry)) {
+            upcomingEntries.add(entry);
+        }
+    }
+
+    /**
+     * Returns the upcoming entry that is due first, after dropping the removed entries due before it.
+     */
+    private ReadOnlyEntry peekUpcomingEntry() {
+        ReadOnlyEntry next;
+        while ((next = upcomingEntries.peek()) != null && !scheduledEntries.contains(next)) {
+            upcomingEntries.poll();
+        }
+        return next;
+    }
+
+    /**
+     * Makes sure the scheduler wakes up by the time the next entry becomes overdue, if it has been started.
+     */
+    private void scheduleWakeUp() {
+        if (!isStarted) {
+            return;
+        }
+        long nextOverdueMillis = getNextOverdueTimeInMillis();
+        if (nextOverdueMillis == Long.MAX_VALUE) {
+            cancelWakeUp();
+            return;
+        }
+        long now = clock.millis();
+        // Entries are overdue once the time is past their overdue time, so the scheduler wakes up just after it
+        long targetMillis = Math.min(nextOverdueMillis + 1, now + MAX_SLEEP_MILLIS);
+        if (wakeUp != null && !wakeUp.isDone() && wakeUpMillis <= targetMillis) {
+            return;
+        }
+        cancelWakeUp();
+        wakeUpMillis = targetMillis;
+        wakeUp = timer.schedule(this::reportOverdueEntries, Math.max(0, targetMillis - now), TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelWakeUp() {
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+            wakeUp = null;
+        }
+        wakeUpMillis = Long.MAX_VALUE;
+    }
+
+}
@@ -14,10 +14,10 @@ public interface StorageUserPrefs {
     public void setEntryBookFilePath(String entryBookFilePath);
 
     /**
-     * The getter and setter for the snapshot file path (for undo and redo)
+     * The getter and setter for the undo history file path, which is null if the undo history is not saved
      */
-    public String getEntryBookSnapshotPath();
+    public String getUndoHistoryFilePath();
 
-    public void setEntryBookSnapshotPath(String entryBookSnapshotPath);
+    public void setUndoHistoryFilePath(String undoHistoryFilePath);
 
 }
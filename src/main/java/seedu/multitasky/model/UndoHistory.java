@@ -0,0 +1,145 @@
+package seedu.multitasky.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.multitasky.storage.exception.NothingToRedoException;
+import seedu.multitasky.storage.exception.NothingToUndoException;
+
+/**
+ * The history of changes made to an entry book, kept in memory as deltas, for undoing and redoing them.
+ * The history is bounded by the number of steps it keeps and the total number of entries held by their deltas,
+ * and drops its oldest steps to stay within both.
+ */
+public class UndoHistory {
+
+    public static final int DEFAULT_MAX_DEPTH = 100;
+    public static final int DEFAULT_MAX_ENTRIES = 100000;
+
+    private final int maxDepth;
+    private final int maxEntries;
+    private final Deque<EntryBookDelta> undoDeltas = new ArrayDeque<>();
+    private final Deque<EntryBookDelta> redoDeltas = new ArrayDeque<>();
+    private int entries;
+
+    public UndoHistory() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxDepth the most steps that can be undone.
+     * @param maxEntries the most entries held by the deltas of all steps that can be undone or redone.
+     */
+    public UndoHistory(int maxDepth, int maxEntries) {
+        if (maxDepth < 0 || maxEntries < 0) {
+            throw new IllegalArgumentException("Undo history limits must not be negative");
+        }
+        this.maxDepth = maxDepth;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Records {@code delta} as the latest step that can be undone, and forgets the steps that could be redone.
+     * Empty deltas are ignored. A delta holding more entries than the history allows clears the history.
+     */
+    public void record(EntryBookDelta delta) {
+        requireNonNull(delta);
+        if (delta.isEmpty()) {
+            return;
+        }
+        redoDeltas.forEach(redoDelta -> entries -= redoDelta.size());
+        redoDeltas.clear();
+        undoDeltas.addLast(delta);
+        entries += delta.size();
+        while (!undoDeltas.isEmpty() && (undoDeltas.size() > maxDepth || entries > maxEntries)) {
+            entries -= undoDeltas.removeFirst().size();
+        }
+    }
+
+    /**
+     * Returns the latest step that can be undone, which the caller should reverse, and moves it to the steps that
+     * can be redone.
+     */
+    public EntryBookDelta undo() throws NothingToUndoException {
+        if (undoDeltas.isEmpty()) {
+            throw new NothingToUndoException("");
+        }
+        EntryBookDelta delta = undoDeltas.removeLast();
+        redoDeltas.addLast(delta);
+        return delta;
+    }
+
+    /**
+     * Returns the latest step undone, which the caller should apply again, and moves it back to the steps that
+     * can be undone.
+     */
+    public EntryBookDelta redo() throws NothingToRedoException {
+        if (redoDeltas.isEmpty()) {
+            throw new NothingToRedoException("");
+        }
+        EntryBookDelta delta = redoDeltas.removeLast();
+        undoDeltas.addLast(delta);
+        return delta;
+    }
+
+    public boolean canUndo() {
+        return !undoDeltas.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoDeltas.isEmpty();
+    }
+
+    public void clear() {
+        undoDeltas.clear();
+        redoDeltas.clear();
+        entries = 0;
+    }
+
+    /**
+     * Returns the steps that can be undone, oldest first.
+     */
+    public List<EntryBookDelta> getUndoDeltas() {
+        return new ArrayList<>(undoDeltas);
+    }
+
+    /**
+     * Returns the steps that can be redone, in the order they were undone.
+     */
+    public List<EntryBookDelta> getRedoDeltas() {
+        return new ArrayList<>(redoDeltas);
+    }
+
+    /**
+     * Replaces the history with the given steps, as returned by {@link #getUndoDeltas()} and
+     * {@link #getRedoDeltas()}, keeping to the limits of this history.
+     */
+    public void setDeltas(List<EntryBookDelta> undoDeltas, List<EntryBookDelta> redoDeltas) {
+        clear();
+        undoDeltas.forEach(this::record);
+        this.redoDeltas.addAll(redoDeltas);
+        redoDeltas.forEach(delta -> entries += delta.size());
+        while (!this.redoDeltas.isEmpty() && entries > maxEntries) {
+            entries -= this.redoDeltas.removeFirst().size();
+        }
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    @Override
+    public String toString() {
+        return undoDeltas.size() + " steps to undo, " + redoDeltas.size() + " steps to redo, holding " + entries
+               + " entries";
+    }
+
+}
@@ -11,8 +11,10 @@ public class UserPrefs implements LogicUserPrefs, StorageUserPrefs {
 
     private String entryBookName = "MyEntryBook";
     private String entryBookFilePath = "data/entrybook.xml";
-    /** Snapshot file path without index and xml */
-    private String entryBookSnapshotPath = "data/snapshots/entrybook";
+    /** Undo history file path, or null if the undo history is not kept between runs */
+    private String undoHistoryFilePath;
+    private int undoHistoryDepth = UndoHistory.DEFAULT_MAX_DEPTH;
+    private int undoHistoryMaxEntries = UndoHistory.DEFAULT_MAX_ENTRIES;
     private GuiSettings guiSettings;
     // @@author A0140633R
     private int defaultDurationHour;
@@ -39,6 +41,22 @@ public class UserPrefs implements LogicUserPrefs, StorageUserPrefs {
         this.defaultDurationHour = defaultDurationHour == 0 ? 1 : defaultDurationHour;
     }
 
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public int getUndoHistoryMaxEntries() {
+        return undoHistoryMaxEntries;
+    }
+
+    public void setUndoHistoryMaxEntries(int undoHistoryMaxEntries) {
+        this.undoHistoryMaxEntries = undoHistoryMaxEntries;
+    }
+
     public String getEntryBookName() {
         return entryBookName;
     }
@@ -90,13 +108,13 @@ public class UserPrefs implements LogicUserPrefs, StorageUserPrefs {
     }
 
     @Override
-    public String getEntryBookSnapshotPath() {
-        return entryBookSnapshotPath;
+    public String getUndoHistoryFilePath() {
+        return undoHistoryFilePath;
     }
 
     @Override
-    public void setEntryBookSnapshotPath(String entryBookSnapshotPath) {
-        this.entryBookSnapshotPath = entryBookSnapshotPath;
+    public void setUndoHistoryFilePath(String undoHistoryFilePath) {
+        this.undoHistoryFilePath = undoHistoryFilePath;
     }
 
     // @@author A0140633R
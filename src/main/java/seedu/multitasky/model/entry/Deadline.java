@@ -95,18 +95,25 @@ public class Deadline extends Entry implements OverdueCapable {
     }
 
     @Override
-    public boolean isOverdue() {
+    public boolean isOverdue(long nowMillis) {
         if (!(this.isActive())) {
             return false;
         }
 
-        Calendar currentCalendar = Calendar.getInstance();
-        return ((this.getEndDateAndTime().compareTo(currentCalendar)) < 0);
+        return getOverdueTimeInMillis() < nowMillis;
     }
 
+    @Override
+    public long getOverdueTimeInMillis() {
+        return getEndDateAndTime().getTimeInMillis();
+    }
+
+    /**
+     * Tags are not compared in {@link #equals(Object)}, so they are not hashed either.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(getName(), getEndDateAndTime(), getState(), getTags());
+        return Objects.hash(getName(), getEndDateAndTime(), getState());
     }
 
     @Override
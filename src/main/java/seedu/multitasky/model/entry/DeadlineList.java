@@ -1,9 +1,6 @@
 package seedu.multitasky.model.entry;
 
-import java.util.List;
-
 import seedu.multitasky.model.entry.exceptions.DuplicateEntryException;
-import seedu.multitasky.model.entry.exceptions.EntryNotFoundException;
 import seedu.multitasky.model.entry.util.Comparators;
 
 //@@author A0126623L
@@ -28,40 +25,17 @@ public class DeadlineList extends EntryList {
     @Override
     public void add(ReadOnlyEntry toAdd) throws DuplicateEntryException {
         super.add(toAdd);
-        if (!(toAdd instanceof Deadline)) {
-            throw new AssertionError("Non-Deadline type cannot be added to an DeadlineList.");
-        }
+        checkEntryType(toAdd);
 
-        internalList.add((Deadline) toAdd);
-        sortInternalList();
-    }
-
-    // @@author A0125586X
-    /**
-     * Overrides updateEntry in DeadlineList to sort after updating in case start date was changed.
-     *
-     * @throws EntryNotFoundException if {@code target} could not be found in the list.
-     * @throws DuplicateEntryException if {@code editedEntry} already exists in the list.
-     */
-    @Override
-    public void updateEntry(ReadOnlyEntry target, ReadOnlyEntry editedEntry)
-            throws DuplicateEntryException, EntryNotFoundException {
-        super.updateEntry(target, editedEntry);
-        sortInternalList();
+        insertSorted((Deadline) toAdd);
     }
 
     // @@author A0126623L
-    /**
-     * Clears the current list of deadlines and add all elements from the list of entries given.
-     *
-     * @param entries must be a list of deadlines.
-     */
-    public void setEntries(List<? extends ReadOnlyEntry> entries) throws DuplicateEntryException {
-        final DeadlineList replacement = new DeadlineList();
-        for (final ReadOnlyEntry entry : entries) {
-            replacement.add(entry);     // Type check is done within add().
+    @Override
+    protected void checkEntryType(ReadOnlyEntry entry) {
+        if (!(entry instanceof Deadline)) {
+            throw new AssertionError("Non-Deadline type cannot be added to an DeadlineList.");
         }
-        super.setEntries(replacement);
     }
     // @@author
 
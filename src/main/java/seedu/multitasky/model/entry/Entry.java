@@ -6,6 +6,7 @@ import static seedu.multitasky.commons.util.CollectionUtil.requireAllNonNull;
 import java.text.DateFormat;
 import java.util.Collections;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import seedu.multitasky.model.tag.Tag;
 import seedu.multitasky.model.tag.UniqueTagList;
@@ -48,9 +49,12 @@ public abstract class Entry implements ReadOnlyEntry {
     protected static DateFormat dateFormatter = DateFormat.getDateTimeInstance(DateFormat.MEDIUM,
                                                                                DateFormat.SHORT);
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     private Name name;
     private UniqueTagList tags;
     private State state;
+    private String searchKey;
 
     /**
      * Every field must be present and not null.
@@ -61,6 +65,7 @@ public abstract class Entry implements ReadOnlyEntry {
         this.name = name;
         this.tags = new UniqueTagList(tags); // protect internal tags from changes in the arg list
         this.state = State.ACTIVE;
+        updateSearchKey();
     }
 
     /**
@@ -73,6 +78,7 @@ public abstract class Entry implements ReadOnlyEntry {
 
     public void setName(Name name) {
         this.name = requireNonNull(name);
+        updateSearchKey();
     }
 
     @Override
@@ -106,6 +112,25 @@ public abstract class Entry implements ReadOnlyEntry {
      */
     public void setTags(Set<Tag> replacement) {
         tags.setTags(new UniqueTagList(replacement));
+        updateSearchKey();
+    }
+
+    @Override
+    public String getSearchKey() {
+        return searchKey;
+    }
+
+    /**
+     * Recomputes the search key from the current name and tags, so that it is not rebuilt every time entries
+     * are filtered.
+     */
+    private void updateSearchKey() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(WHITESPACE.matcher(name.fullName).replaceAll(""));
+        for (Tag t : getTags()) {
+            builder.append(t.tagName);
+        }
+        searchKey = builder.toString().trim().toLowerCase();
     }
 
     /**
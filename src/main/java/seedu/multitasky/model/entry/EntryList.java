@@ -3,18 +3,23 @@ package seedu.multitasky.model.entry;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.multitasky.commons.core.UnmodifiableObservableList;
 import seedu.multitasky.commons.util.CollectionUtil;
 import seedu.multitasky.model.entry.exceptions.DuplicateEntryException;
 import seedu.multitasky.model.entry.exceptions.EntryNotFoundException;
 import seedu.multitasky.model.entry.util.Comparators;
+import seedu.multitasky.model.entry.util.HashIndex;
+import seedu.multitasky.model.entry.util.PersistentList;
 import seedu.multitasky.model.util.EntryBuilder;
 
 // @@author A0126623L
@@ -31,6 +36,64 @@ public abstract class EntryList implements Iterable<Entry> {
 
     protected Comparator<ReadOnlyEntry> comparator = Comparators.ENTRY_DEFAULT;
 
+    private final HashIndex<Entry> entryIndex = new HashIndex<>();
+
+    private final List<EntryList> listsSharingEntries = new ArrayList<>();
+
+    private PersistentList<ReadOnlyEntry> snapshot = PersistentList.empty();
+
+    /**
+     * For each index of the internal list, the index in {@link #snapshot} of the copy of its entry, if the list
+     * has been re-ordered since the snapshot was last put in its order, or null otherwise.
+     */
+    private int[] pendingSnapshotOrder;
+
+    private final List<SnapshotChangeListener> snapshotChangeListeners = new ArrayList<>();
+
+    /**
+     * A listener to the changes made to the snapshot of an entry list.
+     */
+    @FunctionalInterface
+    public interface SnapshotChangeListener {
+        /**
+         * Called when the copies {@code removed} are removed from the snapshot one after another at index
+         * {@code from}, and then the copies {@code added} are inserted from index {@code from} onwards.
+         */
+        void snapshotChanged(int from, List<ReadOnlyEntry> removed, List<ReadOnlyEntry> added);
+    }
+
+    /**
+     * Keeps the hash index of entries used for duplicate checks, and the snapshot of the list, in sync with
+     * every change to the internal list.
+     * An entry that is replaced in place is removed and added again, so it is re-hashed with its new data.
+     */
+    public EntryList() {
+        internalList.addListener((ListChangeListener<Entry>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    if (isSnapshotKept()) {
+                        permuteSnapshot(change);
+                    }
+                    continue;
+                }
+                change.getRemoved().forEach(entryIndex::remove);
+                change.getAddedSubList().forEach(entryIndex::add);
+                if (isSnapshotKept()) {
+                    updateSnapshot(change);
+                }
+            }
+        });
+    }
+
+    /**
+     * Registers {@code other} as holding references to the entries of this list, so that its hash index is
+     * kept in sync when entries are changed in place by this list.
+     */
+    public void shareEntriesWith(EntryList other) {
+        requireNonNull(other);
+        listsSharingEntries.add(other);
+    }
+
     /**
      * Clears the current list of entries and add all elements from replacement.
      * The updated list of entries will contain the references to the elements in {@code replacement}.
@@ -40,7 +103,38 @@ public abstract class EntryList implements Iterable<Entry> {
         this.internalList.setAll(replacement.internalList);
     }
 
+    /**
+     * Clears the current list of entries and adds all elements from {@code entries} in a single bulk load.
+     * Uniqueness is validated once by hashing, the entries are sorted once, and observers of the list are
+     * notified of a single change, so that loading n entries takes O(n log n) time.
+     * The updated list of entries will contain the references to the elements in {@code entries}.
+     *
+     * @throws DuplicateEntryException if {@code entries} contains duplicate entries.
+     */
+    public void setEntries(List<? extends ReadOnlyEntry> entries) throws DuplicateEntryException {
+        requireNonNull(entries);
+        final List<Entry> replacement = new ArrayList<>(entries.size());
+        final Set<ReadOnlyEntry> uniqueEntries = new HashSet<>();
+        for (ReadOnlyEntry entry : entries) {
+            requireNonNull(entry);
+            checkEntryType(entry);
+            if (!uniqueEntries.add(entry) && !isArchivedOrDeletedFloatingTask(entry)) {
+                throw new DuplicateEntryException();
+            }
+            replacement.add((Entry) entry);
+        }
+        sortEntries(replacement);
+        this.internalList.setAll(replacement);
+    }
+
     // ========== Entry Level Operations ==========
+    /**
+     * Checks that {@code entry} is of the entry sub-type stored by this list.
+     *
+     * @throws AssertionError if {@code entry} is of the wrong type.
+     */
+    protected abstract void checkEntryType(ReadOnlyEntry entry);
+
     /**
      * Adds an entry to the list.
      *
@@ -48,13 +142,32 @@ public abstract class EntryList implements Iterable<Entry> {
      */
     public void add(ReadOnlyEntry toAdd) throws DuplicateEntryException {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            if (!isArchivedOrDeletedFloatingTask(toAdd)) {
-                throw new DuplicateEntryException();
-            }
+        if (isDuplicate(toAdd)) {
+            throw new DuplicateEntryException();
         }
     }
 
+    /**
+     * Adds an entry to the list at {@code index} if it is ordered correctly there, so that an entry brought back
+     * takes its old place among the entries ordered equally to it, or at its sorted position otherwise.
+     *
+     * @throws DuplicateEntryException if {@code toAdd} already exists in the list.
+     */
+    public void add(int index, ReadOnlyEntry toAdd) throws DuplicateEntryException {
+        requireNonNull(toAdd);
+        checkEntryType(toAdd);
+        if (index < 0 || index > internalList.size()
+                || (index > 0 && comparator.compare(internalList.get(index - 1), toAdd) > 0)
+                || (index < internalList.size() && comparator.compare(toAdd, internalList.get(index)) > 0)) {
+            add(toAdd);
+            return;
+        }
+        if (isDuplicate(toAdd)) {
+            throw new DuplicateEntryException();
+        }
+        insertAt(index, (Entry) toAdd);
+    }
+
     /**
      * Removes the equivalent entry from the list.
      *
@@ -69,13 +182,76 @@ public abstract class EntryList implements Iterable<Entry> {
         return entryFoundAndDeleted;
     }
 
+    /**
+     * Removes the entry with the same data, state and tags as {@code toRemove}, rather than just an equivalent
+     * entry, which may differ in its tags.
+     *
+     * @param indexHint the index the entry is likely to be at, which is checked first, or -1 if it is not known.
+     * @return the entry that was removed.
+     * @throws EntryNotFoundException if no such entry could be found in the list.
+     */
+    public Entry removeSame(ReadOnlyEntry toRemove, int indexHint) throws EntryNotFoundException {
+        requireNonNull(toRemove);
+        int index = isSameAt(indexHint, toRemove) ? indexHint : indexOfSame(toRemove);
+        if (index == -1) {
+            throw new EntryNotFoundException();
+        }
+        return removeAt(index);
+    }
+
+    /**
+     * Returns true if the list contains an entry with the same data, state and tags as {@code toCheck}.
+     *
+     * @param indexHint the index the entry is likely to be at, which is checked first, or -1 if it is not known.
+     */
+    public boolean containsSame(ReadOnlyEntry toCheck, int indexHint) {
+        requireNonNull(toCheck);
+        return isSameAt(indexHint, toCheck) || indexOfSame(toCheck) != -1;
+    }
+
+    private boolean isSameAt(int index, ReadOnlyEntry entry) {
+        return index >= 0 && index < internalList.size() && isSame(internalList.get(index), entry);
+    }
+
+    /**
+     * Returns the index of the entry with the same data, state and tags as {@code entry}, or -1 if there is
+     * none. The entry is looked for among the entries ordered equally to it in the sorted internal list.
+     */
+    protected int indexOfSame(ReadOnlyEntry entry) {
+        if (!contains(entry)) {
+            return -1;
+        }
+        for (int i = findSortedPosition(entry) - 1; i >= 0 && comparator.compare(internalList.get(i), entry) == 0;
+                --i) {
+            if (isSame(internalList.get(i), entry)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if {@code entry} is {@code other}, or has the same data, state and tags.
+     */
+    protected static boolean isSame(ReadOnlyEntry entry, ReadOnlyEntry other) {
+        return entry == other || (entry.equals(other) && entry.getTags().equals(other.getTags()));
+    }
+
+    /**
+     * Returns true if adding {@code toAdd} to the list would throw a {@link DuplicateEntryException}.
+     */
+    public boolean isDuplicate(ReadOnlyEntry toAdd) {
+        requireNonNull(toAdd);
+        return contains(toAdd) && !isArchivedOrDeletedFloatingTask(toAdd);
+    }
+
     /**
      * Returns true if the list contains an equivalent entry as the given
      * argument.
      */
     public boolean contains(ReadOnlyEntry toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return entryIndex.contains(toCheck);
     }
 
     /**
@@ -115,7 +291,10 @@ public abstract class EntryList implements Iterable<Entry> {
         }
 
         entryToUpdate.resetData(editedEntry);
-        internalList.set(index, entryToUpdate);
+        moveToSortedPosition(index);
+        for (EntryList list : listsSharingEntries) {
+            list.entryIndex.reindex(entryToUpdate);
+        }
     }
 
     /**
@@ -125,9 +304,8 @@ public abstract class EntryList implements Iterable<Entry> {
      * @param editedEntry
      * @return boolean
      */
-    private boolean duplicatesPresentAfterEditing(ReadOnlyEntry target, ReadOnlyEntry editedEntry) {
-        ArrayList<Entry> prospectiveInternalList = createInternalListCopyWithoutTarget(target);
-        return prospectiveInternalList.contains(editedEntry);
+    private boolean duplicatesPresentAfterEditing(Entry target, ReadOnlyEntry editedEntry) {
+        return entryIndex.containsOtherThan(editedEntry, target);
     }
 
     /**
@@ -152,22 +330,194 @@ public abstract class EntryList implements Iterable<Entry> {
         return new UnmodifiableObservableList<>(internalList);
     }
 
-    private ArrayList<Entry> createInternalListCopyWithoutTarget(ReadOnlyEntry target) {
-        ArrayList<Entry> copiedInternalList = new ArrayList<Entry>();
-        for (Entry e : internalList) {
-            if (e != target) {
-                copiedInternalList.add(e);
+    // ========== Snapshot Operations ==========
+
+    /**
+     * Returns an immutable snapshot of the entries in this list, in order, in O(1) time, or in O(n) time the
+     * first time after the list is re-ordered.
+     * The snapshot holds copies of the entries, so it is not affected by later changes to this list, and
+     * shares the copies of unchanged entries with earlier and later snapshots.
+     */
+    public PersistentList<ReadOnlyEntry> getSnapshot() {
+        assert isSnapshotKept();
+        applyPendingSnapshotOrder();
+        return snapshot;
+    }
+
+    /**
+     * Registers {@code listener} to be told of every change to the snapshot of this list, with the copies of the
+     * entries removed from the snapshot and the copies added to it. Re-orderings of the list are not changes.
+     */
+    public void addSnapshotChangeListener(SnapshotChangeListener listener) {
+        assert isSnapshotKept();
+        snapshotChangeListeners.add(requireNonNull(listener));
+    }
+
+    /**
+     * Returns true if this list keeps a snapshot of its entries.
+     * Lists holding entries that are changed in place by other lists cannot keep their snapshots up to date.
+     */
+    protected boolean isSnapshotKept() {
+        return true;
+    }
+
+    /**
+     * Applies an addition, removal or replacement of entries in the internal list to the snapshot, copying
+     * only the entries that were added.
+     */
+    private void updateSnapshot(ListChangeListener.Change<? extends Entry> change) {
+        applyPendingSnapshotOrder();
+        int from = change.getFrom();
+        List<ReadOnlyEntry> removedCopies = new ArrayList<>();
+        List<ReadOnlyEntry> addedCopies = new ArrayList<>();
+        if (from == 0 && change.getRemovedSize() == snapshot.size() && change.getTo() == internalList.size()) {
+            if (!snapshotChangeListeners.isEmpty()) {
+                removedCopies = snapshot.toList();
+            }
+            for (Entry entry : change.getAddedSubList()) {
+                addedCopies.add(copyForSnapshot(entry));
+            }
+            snapshot = PersistentList.of(addedCopies);
+        } else if (change.getRemovedSize() == 1 && change.getAddedSize() == 1) {
+            removedCopies.add(snapshot.get(from));
+            addedCopies.add(copyForSnapshot(internalList.get(from)));
+            snapshot = snapshot.set(from, addedCopies.get(0));
+        } else {
+            for (int i = 0; i < change.getRemovedSize(); ++i) {
+                removedCopies.add(snapshot.get(from));
+                snapshot = snapshot.remove(from);
+            }
+            for (int i = from; i < change.getTo(); ++i) {
+                addedCopies.add(copyForSnapshot(internalList.get(i)));
+                snapshot = snapshot.insert(i, addedCopies.get(i - from));
             }
         }
-        return copiedInternalList;
+        for (SnapshotChangeListener listener : snapshotChangeListeners) {
+            listener.snapshotChanged(from, removedCopies, addedCopies);
+        }
+    }
+
+    /**
+     * Returns a copy of {@code entry}, including its state, for keeping in the snapshot.
+     */
+    private static Entry copyForSnapshot(Entry entry) {
+        Entry copy = EntryBuilder.build(entry);
+        copy.setState(entry.getState());
+        return copy;
+    }
+
+    /**
+     * Records a re-ordering of the internal list, to be applied to the snapshot when it is next needed, so that
+     * sorting the list again and again only rebuilds the snapshot once. Sorts that keep the order are ignored.
+     */
+    private void permuteSnapshot(ListChangeListener.Change<? extends Entry> change) {
+        int from = change.getFrom();
+        int to = change.getTo();
+        while (from < to && change.getPermutation(from) == from) {
+            from++;
+        }
+        if (from == to) {
+            return;
+        }
+        int[] previousOrder = pendingSnapshotOrder;
+        pendingSnapshotOrder = new int[internalList.size()];
+        for (int i = 0; i < pendingSnapshotOrder.length; ++i) {
+            pendingSnapshotOrder[i] = previousOrder == null ? i : previousOrder[i];
+        }
+        for (int i = from; i < to; ++i) {
+            pendingSnapshotOrder[change.getPermutation(i)] = previousOrder == null ? i : previousOrder[i];
+        }
+    }
+
+    /**
+     * Puts the snapshot in the order of the internal list, reusing the existing copies of the entries.
+     */
+    private void applyPendingSnapshotOrder() {
+        if (pendingSnapshotOrder == null) {
+            return;
+        }
+        List<ReadOnlyEntry> previousEntries = snapshot.toList();
+        List<ReadOnlyEntry> orderedEntries = new ArrayList<>(previousEntries.size());
+        for (int index : pendingSnapshotOrder) {
+            orderedEntries.add(previousEntries.get(index));
+        }
+        snapshot = PersistentList.of(orderedEntries);
+        pendingSnapshotOrder = null;
     }
 
     // @@author A0125586X
     /**
-     * Sorts the internal list using the comparator stored inside the class
+     * Sorts the internal list using the comparator stored inside the class.
+     * Observers of the list are notified of a single permutation.
      */
     protected void sortInternalList() {
-        Collections.sort(internalList, comparator);
+        FXCollections.sort(internalList, comparator);
+    }
+
+    /**
+     * Inserts {@code entry} into the already sorted internal list at the position found by binary search.
+     * The entry is placed after any entries that are ordered equally to it, as a stable sort would.
+     */
+    protected void insertSorted(Entry entry) {
+        internalList.add(findSortedPosition(entry), entry);
+    }
+
+    /**
+     * Inserts {@code entry} into the internal list at {@code index}, where it is already known to be ordered
+     * correctly.
+     */
+    protected void insertAt(int index, Entry entry) {
+        internalList.add(index, entry);
+    }
+
+    /**
+     * Removes and returns the entry at {@code index} in the internal list.
+     */
+    protected Entry removeAt(int index) {
+        return internalList.remove(index);
+    }
+
+    /**
+     * Moves the entry at {@code index}, whose data has just been changed, to its sorted position.
+     * If it is still ordered correctly relative to its neighbours, observers are only notified that it was
+     * replaced. Otherwise only this entry is removed and re-inserted.
+     */
+    protected void moveToSortedPosition(int index) {
+        Entry entry = internalList.get(index);
+        boolean isOrderedAfterPrevious = index == 0
+                                         || comparator.compare(internalList.get(index - 1), entry) <= 0;
+        boolean isOrderedBeforeNext = index == internalList.size() - 1
+                                      || comparator.compare(entry, internalList.get(index + 1)) <= 0;
+        if (isOrderedAfterPrevious && isOrderedBeforeNext) {
+            internalList.set(index, entry);
+            return;
+        }
+        internalList.remove(index);
+        insertSorted(entry);
+    }
+
+    /**
+     * Returns the index after the last entry in the internal list that is not ordered after {@code entry}.
+     */
+    private int findSortedPosition(ReadOnlyEntry entry) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(internalList.get(mid), entry) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Sorts the given entries using the comparator stored inside the class, before they are bulk loaded.
+     */
+    protected void sortEntries(List<Entry> entries) {
+        entries.sort(comparator);
     }
 
     // ========== Util Methods ==========
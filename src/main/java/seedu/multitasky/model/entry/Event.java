@@ -70,15 +70,20 @@ public class Event extends Entry implements OverdueCapable, OverlapCapable {
      * are considered overdue, no matter the end time.
      */
     @Override
-    public boolean isOverdue() {
+    public boolean isOverdue(long nowMillis) {
         if (!(this.isActive())) {
             return false;
         }
 
-        Calendar currentCalendar = Calendar.getInstance();
-        return ((this.getEndDateAndTime().compareTo(currentCalendar)) < 0
-                || (this.getStartDateAndTime().compareTo(currentCalendar) < 0));
+        return getOverdueTimeInMillis() < nowMillis;
+    }
 
+    /**
+     * Returns the earlier of the start and end time, as an event is overdue once either has passed.
+     */
+    @Override
+    public long getOverdueTimeInMillis() {
+        return Math.min(getStartDateAndTime().getTimeInMillis(), getEndDateAndTime().getTimeInMillis());
     }
 
     /**
@@ -145,9 +150,12 @@ public class Event extends Entry implements OverdueCapable, OverlapCapable {
                 && this.getState().equals(other.getState()));
     }
 
+    /**
+     * Tags are not compared in {@link #equals(Object)}, so they are not hashed either.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(getName(), getStartDateAndTime(), getEndDateAndTime(), getState(), getTags());
+        return Objects.hash(getName(), getStartDateAndTime(), getEndDateAndTime(), getState());
     }
 
     @Override
@@ -1,17 +1,23 @@
 package seedu.multitasky.model.entry;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 
 import seedu.multitasky.model.entry.exceptions.DuplicateEntryException;
 import seedu.multitasky.model.entry.exceptions.EntryNotFoundException;
 import seedu.multitasky.model.entry.util.Comparators;
+import seedu.multitasky.model.entry.util.IntervalTree;
 
 //@@author A0126623L
 /**
  * A list of Event objects that does not allow nulls.
+ * The start and end times of active events are also indexed in an interval tree for overlap checks.
  */
 public class EventList extends EntryList {
 
+    private final IntervalTree<Event> activeEventIntervals = new IntervalTree<>();
+
     // @@author A0125586X
     public EventList() {
         super();
@@ -28,13 +34,26 @@ public class EventList extends EntryList {
     @Override
     public void add(ReadOnlyEntry toAdd) throws DuplicateEntryException {
         super.add(toAdd);
+        checkEntryType(toAdd);
 
-        if (!(toAdd instanceof Event)) {
-            throw new AssertionError("Non-Event type cannot be added to an EventList.");
-        }
+        insertSorted((Event) toAdd);
+        indexIfActive((Event) toAdd);
+    }
 
-        internalList.add((Event) toAdd);
-        sortInternalList();
+    /**
+     * Removes the equivalent event from the list.
+     *
+     * @throws EntryNotFoundException if no such event could be found in the list.
+     */
+    @Override
+    public boolean remove(ReadOnlyEntry toRemove) throws EntryNotFoundException {
+        requireNonNull(toRemove);
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
+            throw new EntryNotFoundException();
+        }
+        activeEventIntervals.remove((Event) internalList.remove(index));
+        return true;
     }
 
     // @@author A0126623L
@@ -42,20 +61,14 @@ public class EventList extends EntryList {
      * Checks if a given event has overlapping time with any existing active events in the event list.
      */
     public boolean hasOverlappingEvent(ReadOnlyEntry other) {
-        for (Entry existingEntry : internalList) {
-            assert (existingEntry instanceof Event) : "Non-event should not exist in an event list.";
-            if (!(other instanceof OverlapCapable)) {
-                return false;
-            }
-            Event otherEvent = (Event) other;
-            Event existingEvent = (Event) existingEntry;
-
-            if (existingEvent.isActive()
-                && existingEvent.overlapsWith(otherEvent)) {
-                return true;
-            }
+        if (!(other instanceof OverlapCapable)) {
+            return false;
         }
-        return false;
+        Event otherEvent = (Event) other;
+
+        return activeEventIntervals.anyOverlapping(getStartMillis(otherEvent), getEndMillis(otherEvent),
+            existingEvent -> existingEvent.isActive()
+                             && existingEvent.overlapsWith(otherEvent));
     }
 
     // @@author A0126623L
@@ -64,27 +77,22 @@ public class EventList extends EntryList {
      * event list after being updated.
      */
     public boolean hasOverlappingEventAfterUpdate(ReadOnlyEntry target, ReadOnlyEntry prospectiveEntry) {
-        for (Entry existingEntry : internalList) {
-            assert (existingEntry instanceof Event) : "Non-event should not exist in an event list.";
-            if (!(prospectiveEntry instanceof OverlapCapable)) {
-                return false;
-            }
-            Event prospectiveEvent = (Event) prospectiveEntry;
-            Event existingEvent = (Event) existingEntry;
-
-            if (existingEvent.isActive()
-                && existingEvent.overlapsWith(prospectiveEvent)
-                && !(existingEvent.equals(target))) {
-                return true;
-            }
+        if (!(prospectiveEntry instanceof OverlapCapable)) {
+            return false;
         }
-        return false;
+        Event prospectiveEvent = (Event) prospectiveEntry;
+
+        return activeEventIntervals.anyOverlapping(getStartMillis(prospectiveEvent),
+                                                   getEndMillis(prospectiveEvent),
+            existingEvent -> existingEvent.isActive()
+                             && existingEvent.overlapsWith(prospectiveEvent)
+                             && !(existingEvent.equals(target)));
     }
 
     // @@author A0125586X
     /**
      * Updates an existing entry with the data of a given Entry.
-     * The list is sorted after updating in case start date was changed.
+     * The event is moved to its sorted position in case its start date was changed.
      *
      * @throws EntryNotFoundException if {@code target} could not be found in the list.
      * @throws DuplicateEntryException if {@code editedEntry} already exists in the list.
@@ -92,8 +100,19 @@ public class EventList extends EntryList {
     @Override
     public void updateEntry(ReadOnlyEntry target, ReadOnlyEntry editedEntry)
             throws DuplicateEntryException, EntryNotFoundException {
-        super.updateEntry(target, editedEntry);
-        sortInternalList();
+        int index = internalList.indexOf(target);
+        if (index == -1) {
+            throw new EntryNotFoundException();
+        }
+        Event eventToUpdate = (Event) internalList.get(index);
+
+        // The event is updated in place, so it is re-indexed with its new times and state.
+        activeEventIntervals.remove(eventToUpdate);
+        try {
+            super.updateEntry(target, editedEntry);
+        } finally {
+            indexIfActive(eventToUpdate);
+        }
     }
 
     // @@author A0126623L
@@ -102,12 +121,62 @@ public class EventList extends EntryList {
      *
      * @param entries must be a list of events.
      */
+    @Override
     public void setEntries(List<? extends ReadOnlyEntry> entries) throws DuplicateEntryException {
-        final EventList replacement = new EventList();
-        for (final ReadOnlyEntry entry : entries) {
-            replacement.add(entry);     // Type check is done within add().
-        }
+        super.setEntries(entries);     // Type check is done within setEntries().
+        rebuildIntervalIndex();
+    }
+
+    /**
+     * Clears the current list of events and add all elements from {@code replacement}.
+     */
+    @Override
+    public void setEntries(EntryList replacement) {
         super.setEntries(replacement);
+        rebuildIntervalIndex();
+    }
+
+    @Override
+    protected void insertAt(int index, Entry entry) {
+        super.insertAt(index, entry);
+        indexIfActive((Event) entry);
+    }
+
+    @Override
+    protected Entry removeAt(int index) {
+        Entry removed = super.removeAt(index);
+        activeEventIntervals.remove((Event) removed);
+        return removed;
+    }
+
+    @Override
+    protected void checkEntryType(ReadOnlyEntry entry) {
+        if (!(entry instanceof Event)) {
+            throw new AssertionError("Non-Event type cannot be added to an EventList.");
+        }
+    }
+
+    // ========== Interval Index Util Methods ==========
+
+    private void rebuildIntervalIndex() {
+        activeEventIntervals.clear();
+        for (Entry entry : internalList) {
+            indexIfActive((Event) entry);
+        }
+    }
+
+    private void indexIfActive(Event event) {
+        if (event.isActive()) {
+            activeEventIntervals.insert(event, getStartMillis(event), getEndMillis(event));
+        }
+    }
+
+    private static long getStartMillis(Event event) {
+        return event.getStartDateAndTime().getTimeInMillis();
+    }
+
+    private static long getEndMillis(Event event) {
+        return event.getEndDateAndTime().getTimeInMillis();
     }
 
 }
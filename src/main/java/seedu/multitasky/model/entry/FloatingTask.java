@@ -64,9 +64,12 @@ public class FloatingTask extends Entry {
     }
 
     // @@author A0126623L-reused
+    /**
+     * Tags are not compared in {@link #equals(Object)}, so they are not hashed either.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(getName(), getState(), getTags());
+        return Objects.hash(getName(), getState());
     }
 
     @Override
@@ -1,7 +1,5 @@
 package seedu.multitasky.model.entry;
 
-import java.util.List;
-
 import seedu.multitasky.model.entry.exceptions.DuplicateEntryException;
 import seedu.multitasky.model.entry.util.Comparators;
 
@@ -23,24 +21,16 @@ public class FloatingTaskList extends EntryList {
     @Override
     public void add(ReadOnlyEntry toAdd) throws DuplicateEntryException {
         super.add(toAdd);
-        if (!(toAdd instanceof FloatingTask)) {
-            throw new AssertionError("Non-FloatingTask type cannot be added to an FloatingTaskList.");
-        }
+        checkEntryType(toAdd);
 
         internalList.add((FloatingTask) toAdd);
     }
 
     // @@author A0126623L
-    /**
-     * Clears the current list of floating tasks and add all elements from the list of entries given.
-     *
-     * @param entries must be a list of floating tasks.
-     */
-    public void setEntries(List<? extends ReadOnlyEntry> entries) throws DuplicateEntryException {
-        final FloatingTaskList replacement = new FloatingTaskList();
-        for (final ReadOnlyEntry entry : entries) {
-            replacement.add(entry);   // Type check is done within add().
+    @Override
+    protected void checkEntryType(ReadOnlyEntry entry) {
+        if (!(entry instanceof FloatingTask)) {
+            throw new AssertionError("Non-FloatingTask type cannot be added to an FloatingTaskList.");
         }
-        super.setEntries(replacement);
     }
 }
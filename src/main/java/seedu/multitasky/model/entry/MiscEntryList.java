@@ -18,19 +18,57 @@ public class MiscEntryList extends EntryList {
     @Override
     public void add(ReadOnlyEntry toAdd) throws DuplicateEntryException {
         super.add(toAdd);
-        assert (toAdd instanceof Entry);
+        checkEntryType(toAdd);
         internalList.add((Entry) toAdd);
     }
 
+    @Override
+    protected void checkEntryType(ReadOnlyEntry entry) {
+        assert (entry instanceof Entry);
+    }
+
+    /**
+     * Entries of different sub-types cannot be compared, so they are kept in the order given.
+     */
+    @Override
+    protected void sortEntries(List<Entry> entries) {
+        // No re-ordering of entries
+    }
+
+    /**
+     * Entries of different sub-types cannot be compared, so an updated entry is kept where it is.
+     */
+    @Override
+    protected void moveToSortedPosition(int index) {
+        internalList.set(index, internalList.get(index));
+    }
+
     /**
-     * Sets MiscEntryList to contain the reference to the entries in the given list.
+     * Entries of different sub-types cannot be compared, so the entry is looked for in the whole list, first by
+     * reference, as this list shares its entries with the sub-type lists, and then by its data.
      */
-    public void setEntries(List<? extends ReadOnlyEntry> entries) throws DuplicateEntryException {
-        final MiscEntryList replacement = new MiscEntryList();
-        for (final ReadOnlyEntry entry : entries) {
-            replacement.add(entry);
+    @Override
+    protected int indexOfSame(ReadOnlyEntry entry) {
+        for (int i = 0; i < internalList.size(); ++i) {
+            if (internalList.get(i) == entry) {
+                return i;
+            }
+        }
+        for (int i = 0; i < internalList.size(); ++i) {
+            if (isSame(internalList.get(i), entry)) {
+                return i;
+            }
         }
-        super.setEntries(replacement);
+        return -1;
+    }
+
+    /**
+     * The entries in this list are changed in place by the sub-type lists holding them, so snapshots are only
+     * kept by those lists.
+     */
+    @Override
+    protected boolean isSnapshotKept() {
+        return false;
     }
 
 }
@@ -2,6 +2,8 @@ package seedu.multitasky.model.entry;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 import seedu.multitasky.commons.exceptions.IllegalValueException;
 
 // @@author A0126623L
@@ -22,6 +24,9 @@ public class Name {
      */
     public static final String NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}\\p{S}\\p{P} ]*";
 
+    /** Compiled once, as names are validated for every entry loaded. */
+    private static final Pattern NAME_VALIDATION_PATTERN = Pattern.compile(NAME_VALIDATION_REGEX);
+
     public final String fullName;
 
     /**
@@ -43,7 +48,7 @@ public class Name {
      * Returns true if a given string is a valid entry name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        return NAME_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -6,5 +6,20 @@ package seedu.multitasky.model.entry;
  */
 public interface OverdueCapable {
 
-    public boolean isOverdue();
+    /**
+     * Returns true if this entry is overdue at the current system time.
+     */
+    public default boolean isOverdue() {
+        return isOverdue(System.currentTimeMillis());
+    }
+
+    /**
+     * Returns true if this entry is overdue at {@code nowMillis}, in milliseconds since the epoch.
+     */
+    public boolean isOverdue(long nowMillis);
+
+    /**
+     * Returns the time, in milliseconds since the epoch, after which this entry is overdue if it is active.
+     */
+    public long getOverdueTimeInMillis();
 }
@@ -32,6 +32,12 @@ public interface ReadOnlyEntry {
 
     boolean isDeleted();
 
+    /**
+     * Returns the words in the name and tags of the entry, concatenated without whitespace and in lower case,
+     * for matching search keywords against.
+     */
+    String getSearchKey();
+
     /**
      * Returns true if both have the same state. (interfaces cannot override .equals)
      */
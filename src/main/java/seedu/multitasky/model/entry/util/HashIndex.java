@@ -0,0 +1,167 @@
+package seedu.multitasky.model.entry.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A hash multiset of values, for answering whether an equal value is present in O(1) expected time without
+ * allocating.
+ * Values are tracked by identity, and each value is hashed with the hash code it had when it was last added or
+ * re-indexed, so a value that is changed in place must be re-indexed with {@link #reindex(Object)}.
+ */
+public class HashIndex<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<T, Node<T>> nodes = new IdentityHashMap<>();
+    private Node<T>[] buckets = newBuckets(INITIAL_CAPACITY);
+
+    /**
+     * Adds an occurrence of {@code value}.
+     */
+    public void add(T value) {
+        requireNonNull(value);
+        Node<T> node = nodes.get(value);
+        if (node != null) {
+            node.occurrences++;
+            return;
+        }
+        node = new Node<>(value);
+        nodes.put(value, node);
+        if (nodes.size() > buckets.length / 4 * 3) {
+            resize(buckets.length * 2);
+        }
+        link(node);
+    }
+
+    /**
+     * Removes an occurrence of {@code value}, which is matched by identity.
+     * @return true if {@code value} was in the index.
+     */
+    public boolean remove(T value) {
+        Node<T> node = nodes.get(value);
+        if (node == null) {
+            return false;
+        }
+        if (--node.occurrences == 0) {
+            nodes.remove(value);
+            unlink(node);
+        }
+        return true;
+    }
+
+    /**
+     * Re-hashes {@code value} after it was changed in place. Does nothing if {@code value} is not in the index.
+     */
+    public void reindex(T value) {
+        Node<T> node = nodes.get(value);
+        if (node == null) {
+            return;
+        }
+        unlink(node);
+        link(node);
+    }
+
+    /**
+     * Returns true if the index contains a value equal to {@code value}.
+     */
+    public boolean contains(Object value) {
+        return containsOtherThan(value, null);
+    }
+
+    /**
+     * Returns true if the index contains a value equal to {@code value}, other than {@code excluded} itself.
+     */
+    public boolean containsOtherThan(Object value, T excluded) {
+        requireNonNull(value);
+        int hash = value.hashCode();
+        for (Node<T> node = buckets[indexFor(hash, buckets.length)]; node != null; node = node.next) {
+            if (node.hash == hash && node.value != excluded && value.equals(node.value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public void clear() {
+        nodes.clear();
+        buckets = newBuckets(INITIAL_CAPACITY);
+    }
+
+    // ================= Hash Table Operations =================
+
+    /**
+     * Hashes {@code node} with the current hash code of its value, and adds it to the matching bucket.
+     */
+    private void link(Node<T> node) {
+        node.hash = node.value.hashCode();
+        int index = indexFor(node.hash, buckets.length);
+        node.next = buckets[index];
+        buckets[index] = node;
+    }
+
+    /**
+     * Removes {@code node} from the bucket matching the hash it was last linked with.
+     */
+    private void unlink(Node<T> node) {
+        int index = indexFor(node.hash, buckets.length);
+        if (buckets[index] == node) {
+            buckets[index] = node.next;
+        } else {
+            Node<T> previous = buckets[index];
+            while (previous.next != node) {
+                previous = previous.next;
+            }
+            previous.next = node.next;
+        }
+        node.next = null;
+    }
+
+    private void resize(int capacity) {
+        Node<T>[] oldBuckets = buckets;
+        buckets = newBuckets(capacity);
+        for (Node<T> head : oldBuckets) {
+            Node<T> node = head;
+            while (node != null) {
+                Node<T> next = node.next;
+                int index = indexFor(node.hash, capacity);
+                node.next = buckets[index];
+                buckets[index] = node;
+                node = next;
+            }
+        }
+    }
+
+    /**
+     * Spreads the higher bits of {@code hash} downwards, as the capacity is a power of two.
+     */
+    private static int indexFor(int hash, int capacity) {
+        return (hash ^ (hash >>> 16)) & (capacity - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] newBuckets(int capacity) {
+        return (Node<T>[]) new Node<?>[capacity];
+    }
+
+    /**
+     * A value in the index, chained with the other values in its bucket.
+     */
+    private static class Node<T> {
+        private final T value;
+        private int occurrences = 1;
+        private int hash;
+        private Node<T> next;
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+
+}
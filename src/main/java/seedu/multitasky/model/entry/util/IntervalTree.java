@@ -0,0 +1,212 @@
+package seedu.multitasky.model.entry.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * An augmented interval tree of values with closed {@code [start, end]} intervals.
+ * Values are tracked by identity, so the interval of a value is the one it was inserted with, and must be
+ * re-inserted if it changes.
+ * Implemented as a treap ordered by interval start, with each node storing the largest interval end
+ * within its subtree. Insertion and removal take expected O(log n) time, and overlap queries take expected
+ * O(log n + k) time, where k is the number of overlapping intervals visited.
+ */
+public class IntervalTree<T> {
+
+    private final Map<T, Node<T>> nodes = new IdentityHashMap<>();
+    private final Random random = new Random();
+    private Node<T> root;
+    private long nextSequenceNumber = 0;
+
+    /**
+     * Inserts {@code value} with the interval {@code [start, end]}.
+     * If {@code value} is already in the tree, its previous interval is replaced.
+     */
+    public void insert(T value, long start, long end) {
+        requireNonNull(value);
+        remove(value);
+
+        Node<T> node = new Node<>(value, start, end, nextSequenceNumber++, random.nextInt());
+        nodes.put(value, node);
+        Node<T>[] halves = split(root, node);
+        root = merge(merge(halves[0], node), halves[1]);
+    }
+
+    /**
+     * Removes {@code value} from the tree.
+     * @return true if {@code value} was in the tree.
+     */
+    public boolean remove(T value) {
+        Node<T> node = nodes.remove(value);
+        if (node == null) {
+            return false;
+        }
+        root = removeFromSubtree(root, node);
+        return true;
+    }
+
+    public boolean contains(T value) {
+        return nodes.containsKey(value);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    /**
+     * Returns true if any value in the tree has an interval overlapping {@code [start, end]} and satisfies
+     * {@code filter}. The search stops at the first such value.
+     */
+    public boolean anyOverlapping(long start, long end, Predicate<? super T> filter) {
+        requireNonNull(filter);
+        return anyOverlappingInSubtree(root, start, end, filter);
+    }
+
+    /**
+     * Returns all values with intervals overlapping {@code [start, end]}, in increasing order of start.
+     */
+    public List<T> getOverlapping(long start, long end) {
+        List<T> overlapping = new ArrayList<>();
+        anyOverlappingInSubtree(root, start, end, value -> {
+            overlapping.add(value);
+            return false;
+        });
+        return overlapping;
+    }
+
+    // ================= Treap Operations =================
+
+    private static <T> boolean anyOverlappingInSubtree(Node<T> node, long start, long end,
+                                                       Predicate<? super T> filter) {
+        if (node == null || node.maxEnd < start) {
+            return false;
+        }
+        if (anyOverlappingInSubtree(node.left, start, end, filter)) {
+            return true;
+        }
+        if (node.start > end) {
+            return false; // every interval in the right subtree starts even later
+        }
+        if (node.end >= start && filter.test(node.value)) {
+            return true;
+        }
+        return anyOverlappingInSubtree(node.right, start, end, filter);
+    }
+
+    /**
+     * Splits the subtree at {@code node} into nodes ordered before {@code key} and the remaining nodes.
+     */
+    private static <T> Node<T>[] split(Node<T> node, Node<T> key) {
+        if (node == null) {
+            @SuppressWarnings("unchecked")
+            Node<T>[] halves = (Node<T>[]) new Node<?>[2];
+            return halves;
+        }
+        if (node.compareTo(key) < 0) {
+            Node<T>[] halves = split(node.right, key);
+            node.right = halves[0];
+            node.update();
+            halves[0] = node;
+            return halves;
+        } else {
+            Node<T>[] halves = split(node.left, key);
+            node.left = halves[1];
+            node.update();
+            halves[1] = node;
+            return halves;
+        }
+    }
+
+    /**
+     * Merges two subtrees, where every node in {@code left} is ordered before every node in {@code right}.
+     */
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            right.update();
+            return right;
+        }
+    }
+
+    private static <T> Node<T> removeFromSubtree(Node<T> node, Node<T> target) {
+        if (node == target) {
+            return merge(node.left, node.right);
+        }
+        if (target.compareTo(node) < 0) {
+            node.left = removeFromSubtree(node.left, target);
+        } else {
+            node.right = removeFromSubtree(node.right, target);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * A treap node, ordered by interval start, then interval end, then insertion order.
+     */
+    private static class Node<T> implements Comparable<Node<T>> {
+        private final T value;
+        private final long start;
+        private final long end;
+        private final long sequenceNumber;
+        private final int priority;
+        private long maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        Node(T value, long start, long end, long sequenceNumber, int priority) {
+            this.value = value;
+            this.start = start;
+            this.end = end;
+            this.sequenceNumber = sequenceNumber;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        /**
+         * Recomputes {@code maxEnd} from this node's children.
+         */
+        void update() {
+            maxEnd = end;
+            if (left != null && left.maxEnd > maxEnd) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd > maxEnd) {
+                maxEnd = right.maxEnd;
+            }
+        }
+
+        @Override
+        public int compareTo(Node<T> other) {
+            if (start != other.start) {
+                return Long.compare(start, other.start);
+            }
+            if (end != other.end) {
+                return Long.compare(end, other.end);
+            }
+            return Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+    }
+
+}
@@ -0,0 +1,224 @@
+package seedu.multitasky.model.entry.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An immutable list that shares structure with the lists it was derived from.
+ * Every update returns a new list and leaves the original unchanged, copying only the O(log n) nodes on the
+ * path to the updated position, so keeping hold of an earlier version of the list takes O(1) time.
+ * Implemented as a treap keyed implicitly by position, with each node storing the size of its subtree.
+ * Lookups and updates take expected O(log n) time. Instances are safe to share between threads.
+ */
+public final class PersistentList<T> implements Iterable<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final PersistentList EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements in {@code elements}, in the same order, built in O(n) time.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> elements) {
+        return new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with {@code value} inserted at {@code index}, shifting later elements to the right.
+     */
+    public PersistentList<T> insert(int index, T value) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Node<T>[] halves = split(root, index);
+        Node<T> node = new Node<>(value, ThreadLocalRandom.current().nextInt(), null, null);
+        return new PersistentList<>(merge(merge(halves[0], node), halves[1]));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed, shifting later elements to the left.
+     */
+    public PersistentList<T> remove(int index) {
+        checkIndex(index, size());
+        Node<T>[] halves = split(root, index);
+        Node<T>[] rightHalves = split(halves[1], 1);
+        return new PersistentList<>(merge(halves[0], rightHalves[1]));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code value}.
+     */
+    public PersistentList<T> set(int index, T value) {
+        checkIndex(index, size());
+        return new PersistentList<>(setInSubtree(root, index, value));
+    }
+
+    /**
+     * Returns a new mutable list of the elements of this list, in order.
+     */
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size());
+        addAllInSubtree(root, list);
+        return list;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return Collections.unmodifiableList(toList()).iterator();
+    }
+
+    // ================= Treap Operations =================
+
+    /**
+     * Builds a balanced subtree of {@code elements} from {@code start} inclusive to {@code end} exclusive,
+     * with each node's priority raised to at least those of its children to keep the heap order.
+     */
+    private static <T> Node<T> build(List<? extends T> elements, int start, int end) {
+        if (start >= end) {
+            return null;
+        }
+        int middle = (start + end) >>> 1;
+        Node<T> left = build(elements, start, middle);
+        Node<T> right = build(elements, middle + 1, end);
+        int priority = Math.max(ThreadLocalRandom.current().nextInt(),
+                                Math.max(priorityOf(left), priorityOf(right)));
+        return new Node<>(elements.get(middle), priority, left, right);
+    }
+
+    private static <T> Node<T> setInSubtree(Node<T> node, int index, T value) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return node.withChildren(setInSubtree(node.left, index, value), node.right);
+        } else if (index == leftSize) {
+            return new Node<>(value, node.priority, node.left, node.right);
+        } else {
+            return node.withChildren(node.left, setInSubtree(node.right, index - leftSize - 1, value));
+        }
+    }
+
+    /**
+     * Splits the subtree at {@code node} into a subtree of its first {@code count} elements and a subtree of
+     * the remaining elements, copying only the nodes along the split path.
+     */
+    private static <T> Node<T>[] split(Node<T> node, int count) {
+        if (node == null) {
+            @SuppressWarnings("unchecked")
+            Node<T>[] halves = (Node<T>[]) new Node<?>[2];
+            return halves;
+        }
+        int leftSize = sizeOf(node.left);
+        if (count <= leftSize) {
+            Node<T>[] halves = split(node.left, count);
+            halves[1] = node.withChildren(halves[1], node.right);
+            return halves;
+        } else {
+            Node<T>[] halves = split(node.right, count - leftSize - 1);
+            halves[0] = node.withChildren(node.left, halves[0]);
+            return halves;
+        }
+    }
+
+    /**
+     * Merges two subtrees, where every element of {@code left} comes before every element of {@code right}.
+     */
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            return left.withChildren(left.left, merge(left.right, right));
+        } else {
+            return right.withChildren(merge(left, right.left), right.right);
+        }
+    }
+
+    private static <T> void addAllInSubtree(Node<T> node, List<T> list) {
+        if (node == null) {
+            return;
+        }
+        addAllInSubtree(node.left, list);
+        list.add(node.value);
+        addAllInSubtree(node.right, list);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int priorityOf(Node<?> node) {
+        return node == null ? Integer.MIN_VALUE : node.priority;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * An immutable treap node.
+     */
+    private static class Node<T> {
+        private final T value;
+        private final int priority;
+        private final int size;
+        private final Node<T> left;
+        private final Node<T> right;
+
+        Node(T value, int priority, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+        }
+
+        /**
+         * Returns a copy of this node with the given children.
+         */
+        Node<T> withChildren(Node<T> newLeft, Node<T> newRight) {
+            return new Node<>(value, priority, newLeft, newRight);
+        }
+    }
+
+}
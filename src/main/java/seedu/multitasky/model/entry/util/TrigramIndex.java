@@ -0,0 +1,114 @@
+package seedu.multitasky.model.entry.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the trigrams (substrings of three characters) of string keys to the values with those
+ * keys, for finding the values whose key may contain a given substring without testing every value.
+ * Every value whose key contains a substring of at least three characters is in the posting lists of all the
+ * trigrams of that substring, so intersecting those posting lists gives a small superset of the matches.
+ * Values are tracked by identity, and a value whose key changes must be put again with its new key.
+ */
+public class TrigramIndex<T> {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<T>> postings = new HashMap<>();
+    private final Map<T, String> keys = new IdentityHashMap<>();
+
+    /**
+     * Indexes {@code value} under {@code key}, replacing the key it was indexed under before, if any.
+     */
+    public void put(T value, String key) {
+        requireNonNull(value);
+        requireNonNull(key);
+        String oldKey = keys.put(value, key);
+        if (key.equals(oldKey)) {
+            return;
+        }
+        if (oldKey != null) {
+            removePostings(value, oldKey);
+        }
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); ++i) {
+            postings.computeIfAbsent(key.substring(i, i + GRAM_LENGTH), gram -> newIdentitySet()).add(value);
+        }
+    }
+
+    /**
+     * Removes {@code value}, which is matched by identity, from the index.
+     * @return true if {@code value} was in the index.
+     */
+    public boolean remove(T value) {
+        String key = keys.remove(value);
+        if (key == null) {
+            return false;
+        }
+        removePostings(value, key);
+        return true;
+    }
+
+    /**
+     * Returns a new set of the values whose key may contain {@code substring}, which includes every value whose
+     * key does contain it, or null if {@code substring} is shorter than {@link #GRAM_LENGTH} and so cannot be
+     * looked up.
+     */
+    public Set<T> getCandidates(String substring) {
+        requireNonNull(substring);
+        if (substring.length() < GRAM_LENGTH) {
+            return null;
+        }
+        Set<T> smallest = null;
+        for (int i = 0; i + GRAM_LENGTH <= substring.length(); ++i) {
+            Set<T> posting = postings.get(substring.substring(i, i + GRAM_LENGTH));
+            if (posting == null) {
+                return newIdentitySet();
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        Set<T> candidates = newIdentitySet();
+        candidates.addAll(smallest);
+        for (int i = 0; i + GRAM_LENGTH <= substring.length() && !candidates.isEmpty(); ++i) {
+            Set<T> posting = postings.get(substring.substring(i, i + GRAM_LENGTH));
+            if (posting != smallest) {
+                candidates.retainAll(posting);
+            }
+        }
+        return candidates;
+    }
+
+    public boolean contains(T value) {
+        return keys.containsKey(value);
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    public void clear() {
+        postings.clear();
+        keys.clear();
+    }
+
+    private void removePostings(T value, String key) {
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); ++i) {
+            String gram = key.substring(i, i + GRAM_LENGTH);
+            Set<T> posting = postings.get(gram);
+            if (posting != null && posting.remove(value) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+}
@@ -2,6 +2,8 @@ package seedu.multitasky.model.tag;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 import seedu.multitasky.commons.exceptions.IllegalValueException;
 
 /**
@@ -13,6 +15,9 @@ public class Tag {
     public static final String MESSAGE_TAG_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String TAG_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}\\p{S}\\p{P}]*";
 
+    /** Compiled once, as every tag of every entry loaded is validated. */
+    private static final Pattern TAG_VALIDATION_PATTERN = Pattern.compile(TAG_VALIDATION_REGEX);
+
     public final String tagName;
 
     /**
@@ -33,7 +38,7 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(TAG_VALIDATION_REGEX);
+        return TAG_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
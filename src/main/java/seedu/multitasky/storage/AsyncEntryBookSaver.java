@@ -0,0 +1,154 @@
+package seedu.multitasky.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.multitasky.commons.core.LogsCenter;
+import seedu.multitasky.model.ReadOnlyEntryBook;
+
+/**
+ * Saves versions of the entry book on a single background writer thread, so that callers do not wait for
+ * the data file to be written.
+ * The first version handed in after a save starts a coalescing window. When the window closes, only the latest
+ * version handed in is saved, so a burst of changes is saved with a single write.
+ * A version that fails to save stays pending until a later version is handed in, and is saved again by the
+ * next {@link #flush()} or when the next version's window closes.
+ * The entry books handed in must not be changed afterwards, as they are read on the writer thread.
+ */
+public class AsyncEntryBookSaver {
+
+    public static final long DEFAULT_COALESCING_MILLIS = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncEntryBookSaver.class);
+
+    /**
+     * Writes a version of the entry book to storage.
+     */
+    @FunctionalInterface
+    public interface Writer {
+        void save(ReadOnlyEntryBook entryBook) throws IOException;
+    }
+
+    /**
+     * Listens to the progress of the saves, on the writer thread.
+     */
+    public interface SaveListener {
+        /** Called when {@code version} has been saved, with the number of later versions waiting to be saved. */
+        void saved(long version, long pendingVersions);
+
+        /** Called when saving {@code version} failed. */
+        void failed(long version, IOException exception);
+    }
+
+    private final ScheduledExecutorService writerThread = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AsyncEntryBookSaver writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Writer writer;
+    private final SaveListener listener;
+    private final long coalescingMillis;
+
+    /** The latest version handed in and not yet saved by the writer thread, or null if there is none. */
+    private ReadOnlyEntryBook pendingEntryBook;
+    private long pendingVersion;
+    private long latestVersion;
+    private long lastSavedVersion;
+    private boolean isSaveScheduled;
+
+    public AsyncEntryBookSaver(Writer writer, SaveListener listener, long coalescingMillis) {
+        this.writer = requireNonNull(writer);
+        this.listener = requireNonNull(listener);
+        this.coalescingMillis = coalescingMillis;
+    }
+
+    /**
+     * Hands in {@code entryBook} as the latest version to be saved.
+     * {@code version} is the version of the entry book given by the model, which does not decrease from one
+     * version handed in to the next.
+     */
+    public synchronized void submit(ReadOnlyEntryBook entryBook, long version) {
+        requireNonNull(entryBook);
+        pendingEntryBook = entryBook;
+        pendingVersion = version;
+        latestVersion = Math.max(latestVersion, version);
+        if (!isSaveScheduled) {
+            isSaveScheduled = true;
+            writerThread.schedule(this::savePending, coalescingMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves the latest version handed in without waiting for its coalescing window to close, and returns once
+     * every version handed in so far has been saved or has failed to save.
+     */
+    public void flush() {
+        try {
+            writerThread.submit(this::savePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Saves should not throw unchecked exceptions", e);
+        }
+    }
+
+    public synchronized long getLatestVersion() {
+        return latestVersion;
+    }
+
+    public synchronized long getLastSavedVersion() {
+        return lastSavedVersion;
+    }
+
+    /**
+     * Returns the number of versions handed in since the last version that was saved.
+     */
+    public synchronized long getPendingVersions() {
+        return latestVersion - lastSavedVersion;
+    }
+
+    /**
+     * Saves the pending version, if there is one. Runs on the writer thread.
+     */
+    private void savePending() {
+        ReadOnlyEntryBook entryBook;
+        long version;
+        synchronized (this) {
+            isSaveScheduled = false;
+            if (pendingEntryBook == null) {
+                return;
+            }
+            entryBook = pendingEntryBook;
+            version = pendingVersion;
+            pendingEntryBook = null;
+        }
+
+        try {
+            writer.save(entryBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save version " + version + " of the entry book: " + e);
+            synchronized (this) {
+                if (pendingEntryBook == null) { // nothing later to save instead, so this version is kept
+                    pendingEntryBook = entryBook;
+                    pendingVersion = version;
+                }
+            }
+            listener.failed(version, e);
+            return;
+        }
+        long pendingVersions;
+        synchronized (this) {
+            lastSavedVersion = version;
+            pendingVersions = latestVersion - version;
+        }
+        listener.saved(version, pendingVersions);
+    }
+
+}
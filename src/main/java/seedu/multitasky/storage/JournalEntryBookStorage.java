@@ -0,0 +1,757 @@
+package seedu.multitasky.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.multitasky.commons.core.LogsCenter;
+import seedu.multitasky.commons.exceptions.DataConversionException;
+import seedu.multitasky.commons.exceptions.IllegalValueException;
+import seedu.multitasky.commons.util.FileUtil;
+import seedu.multitasky.model.EntryBookDelta;
+import seedu.multitasky.model.EntryBookSnapshot;
+import seedu.multitasky.model.ReadOnlyEntryBook;
+import seedu.multitasky.model.entry.Entry;
+import seedu.multitasky.model.entry.Name;
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+import seedu.multitasky.model.entry.util.PersistentList;
+import seedu.multitasky.model.tag.Tag;
+import seedu.multitasky.model.util.EntryBuilder;
+
+/**
+ * A class to access EntryBook data stored as a checkpoint image and an append-only journal on the hard disk.
+ *
+ * Each save compares the entry book with the one saved before and appends only the entries that were added,
+ * removed, updated or changed state to the journal. Finding them scans each list, which takes time in proportion
+ * to the size of the entry book, but what is written is in proportion to the change, and an entry that moves
+ * within its list is written as a single removal and addition. Once {@code checkpointInterval} records have been
+ * appended, a new journal is started and a full image of the entry book is written as the new checkpoint in the
+ * background, after which the older journals are deleted. The records of each save end with a commit record, and
+ * a save cut short by a crash is ignored when the journal is read back.
+ *
+ * For a data file path of {@code data/entrybook.xml}, the checkpoint is kept in
+ * {@code data/entrybook.xml.checkpoint} and the journals in {@code data/entrybook.xml.<generation>.journal}.
+ * The XML data file itself is only used for import and export: it is read when there is no checkpoint yet or
+ * when it has been replaced since it was last imported, and entry books read from or saved to any other path
+ * are in XML.
+ */
+public class JournalEntryBookStorage implements EntryBookStorage {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+    public static final String CHECKPOINT_FILE_SUFFIX = ".checkpoint";
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalEntryBookStorage.class);
+
+    private static final int CHECKPOINT_MAGIC = 0x4d544350; // "MTCP"
+    private static final int JOURNAL_MAGIC = 0x4d544a4c; // "MTJL"
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte RECORD_ADD = 'A';
+    private static final byte RECORD_REMOVE = 'R';
+    private static final byte RECORD_UPDATE = 'U';
+    private static final byte RECORD_STATE = 'S';
+    private static final byte RECORD_TAGS = 'T';
+    private static final byte RECORD_COMMIT = 'C';
+
+    private static final int EVENTS = 0;
+    private static final int DEADLINES = 1;
+    private static final int FLOATING_TASKS = 2;
+    private static final int LIST_COUNT = 3;
+
+    /** Writes the checkpoints one at a time, in the order they were started. */
+    private static final ExecutorService checkpointWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JournalEntryBookStorage checkpoint writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int checkpointInterval;
+    private String filePath;
+
+    /** The entry book as last saved to the journal, or null if the journal has to be started over. */
+    private State saved;
+    /** The generation of the journal that saves are appended to. */
+    private long generation;
+    private boolean isJournalStarted;
+    private int recordsSinceCheckpoint;
+    /** The last modified time and length of the XML data file when it was last imported. */
+    private FileStamp importedStamp = FileStamp.NONE;
+
+    public JournalEntryBookStorage(String filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    public JournalEntryBookStorage(String filePath, int checkpointInterval) {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        this.filePath = filePath;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    @Override
+    public synchronized String getEntryBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Sets the data file path, starting the journal over from the XML data file at {@code newFilePath} as it is
+     * now, which should hold the entry book being saved, such as one just exported to it.
+     */
+    @Override
+    public synchronized void setEntryBookFilePath(String newFilePath) {
+        if (!newFilePath.equals(filePath)) {
+            filePath = newFilePath;
+            saved = null;
+            importedStamp = FileStamp.of(new File(newFilePath));
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyEntryBook> readEntryBook() throws DataConversionException, IOException {
+        return readEntryBook(getEntryBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readEntryBook()}, reading the checkpoint and journals kept for {@code filePath} if
+     * there are any, or the XML data file at {@code filePath} otherwise.
+     * Only reading from the current data file path prepares the journal to be appended to.
+     *
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the data is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyEntryBook> readEntryBook(String filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        // A checkpoint written in the background deletes the journals before it, which may be replayed here.
+        awaitCheckpoints();
+        File xmlFile = new File(filePath);
+        File checkpointFile = getCheckpointFile(filePath);
+        FileStamp xmlStamp = FileStamp.of(xmlFile);
+
+        State recovered = null;
+        if (checkpointFile.exists()) {
+            recovered = readCheckpoint(checkpointFile);
+            if (xmlFile.exists() && !xmlStamp.equals(recovered.importedStamp)) {
+                logger.info("EntryBook file " + xmlFile + " has been replaced, importing it");
+                recovered = null;
+            }
+        }
+        if (recovered == null) {
+            Optional<ReadOnlyEntryBook> imported = new XmlEntryBookStorage(filePath).readEntryBook(filePath);
+            if (filePath.equals(this.filePath)) {
+                saved = null;
+                importedStamp = xmlStamp;
+            }
+            return imported;
+        }
+
+        // The journals from the checkpoint on are replayed in order, even if one was never started.
+        long nextGeneration = recovered.generation;
+        int replayedJournals = 0;
+        int replayedRecords = 0;
+        for (long g : findJournalGenerations(filePath)) {
+            if (g >= recovered.generation) {
+                replayedRecords += replayJournal(getJournalFile(filePath, g), recovered);
+                replayedJournals++;
+                nextGeneration = g + 1;
+            }
+        }
+        logger.fine("Read checkpoint " + checkpointFile + " and replayed " + replayedRecords + " journal records");
+
+        if (filePath.equals(this.filePath)) {
+            // Saves go to the checkpoint's journal if it was never started, or else to a new journal, as the last
+            // one may end with an incomplete save.
+            saved = recovered;
+            importedStamp = recovered.importedStamp;
+            generation = nextGeneration;
+            isJournalStarted = false;
+            recordsSinceCheckpoint = replayedRecords;
+            if (replayedJournals > 1) {
+                startCheckpoint(generation, recovered);
+            }
+        }
+        return Optional.of(recovered.toEntryBook());
+    }
+
+    @Override
+    public void saveEntryBook(ReadOnlyEntryBook entryBook) throws IOException {
+        saveEntryBook(entryBook, getEntryBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveEntryBook(ReadOnlyEntryBook)}, appending the changes to the journal if
+     * {@code filePath} is the current data file path, or exporting the entry book as an XML data file otherwise.
+     *
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public synchronized void saveEntryBook(ReadOnlyEntryBook entryBook, String filePath) throws IOException {
+        requireNonNull(entryBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            new XmlEntryBookStorage(filePath).saveEntryBook(entryBook, filePath);
+            return;
+        }
+
+        State current = State.of(entryBook, importedStamp);
+        if (saved == null) {
+            List<Long> generations = findJournalGenerations(filePath);
+            generation = generations.isEmpty() ? 0 : generations.get(generations.size() - 1) + 1;
+            current.generation = generation;
+            awaitCheckpoint(generation, current);
+            saved = current;
+            isJournalStarted = false;
+            recordsSinceCheckpoint = 0;
+            return;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        if (!isJournalStarted) {
+            out.writeInt(JOURNAL_MAGIC);
+            out.writeInt(FORMAT_VERSION);
+        }
+        int records = 0;
+        for (int list = 0; list < LIST_COUNT; ++list) {
+            records += writeChanges(out, list, saved.entries.get(list), current.entries.get(list));
+        }
+        if (!current.tags.equals(saved.tags)) {
+            out.writeByte(RECORD_TAGS);
+            writeTags(out, current.tags);
+            records++;
+        }
+        if (records == 0) {
+            saved = current;
+            return;
+        }
+        out.writeByte(RECORD_COMMIT);
+        out.flush();
+
+        File journalFile = getJournalFile(filePath, generation);
+        FileUtil.createParentDirsOfFile(journalFile);
+        Files.write(journalFile.toPath(), bytes.toByteArray(), StandardOpenOption.CREATE,
+                    isJournalStarted ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+        isJournalStarted = true;
+        saved = current;
+        recordsSinceCheckpoint += records;
+
+        if (recordsSinceCheckpoint >= checkpointInterval) {
+            generation++;
+            isJournalStarted = false;
+            recordsSinceCheckpoint = 0;
+            startCheckpoint(generation, current);
+        }
+    }
+
+    public static File getCheckpointFile(String filePath) {
+        return new File(filePath + CHECKPOINT_FILE_SUFFIX);
+    }
+
+    public static File getJournalFile(String filePath, long generation) {
+        return new File(filePath + "." + generation + JOURNAL_FILE_SUFFIX);
+    }
+
+    // ================= Journal =================
+
+    /**
+     * Appends the records that change {@code before} into {@code after} to {@code out}.
+     * Entries are never changed in place, so entries kept from one save to the next are found by identity.
+     * In between the unchanged entries at the start and end of the list, the entries that are not kept are
+     * removed and the new ones added, or the whole range is written out if the kept entries were re-ordered.
+     * @return the number of records written.
+     */
+    private static int writeChanges(DataOutputStream out, int list, List<ReadOnlyEntry> before,
+                                    List<ReadOnlyEntry> after) throws IOException {
+        int start = 0;
+        int maxStart = Math.min(before.size(), after.size());
+        while (start < maxStart && isUnchanged(before.get(start), after.get(start))) {
+            start++;
+        }
+        int beforeEnd = before.size();
+        int afterEnd = after.size();
+        while (beforeEnd > start && afterEnd > start
+               && isUnchanged(before.get(beforeEnd - 1), after.get(afterEnd - 1))) {
+            beforeEnd--;
+            afterEnd--;
+        }
+
+        if (beforeEnd - start == 1 && afterEnd - start == 1) {
+            ReadOnlyEntry oldEntry = before.get(start);
+            ReadOnlyEntry newEntry = after.get(start);
+            if (EntryBookDelta.isSameExceptState(oldEntry, newEntry)) {
+                out.writeByte(RECORD_STATE);
+                out.writeByte(list);
+                out.writeInt(start);
+                out.writeByte(newEntry.getState().ordinal());
+            } else {
+                out.writeByte(RECORD_UPDATE);
+                out.writeByte(list);
+                out.writeInt(start);
+                writeEntry(out, newEntry);
+            }
+            return 1;
+        }
+
+        List<ReadOnlyEntry> beforeRange = before.subList(start, beforeEnd);
+        List<ReadOnlyEntry> afterRange = after.subList(start, afterEnd);
+        Set<ReadOnlyEntry> beforeEntries = newIdentitySet(beforeRange);
+        Set<ReadOnlyEntry> afterEntries = newIdentitySet(afterRange);
+        if (!isKeptInOrder(beforeRange, afterRange, beforeEntries, afterEntries)) {
+            beforeEntries.clear();
+            afterEntries.clear();
+        }
+
+        // Removals go from the end of the list so that the indices before them stay the same
+        int records = 0;
+        int runEnd = beforeEnd;
+        for (int i = beforeEnd - 1; i >= start - 1; --i) {
+            if (i >= start && !afterEntries.contains(before.get(i))) {
+                continue;
+            }
+            if (runEnd > i + 1) {
+                out.writeByte(RECORD_REMOVE);
+                out.writeByte(list);
+                out.writeInt(i + 1);
+                out.writeInt(runEnd - (i + 1));
+                records++;
+            }
+            runEnd = i;
+        }
+        for (int i = start; i < afterEnd; ++i) {
+            if (beforeEntries.contains(after.get(i))) {
+                continue;
+            }
+            out.writeByte(RECORD_ADD);
+            out.writeByte(list);
+            out.writeInt(i);
+            writeEntry(out, after.get(i));
+            records++;
+        }
+        return records;
+    }
+
+    private static Set<ReadOnlyEntry> newIdentitySet(List<ReadOnlyEntry> entries) {
+        Set<ReadOnlyEntry> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(entries);
+        return set;
+    }
+
+    /**
+     * Returns true if the entries of {@code before} that are kept in {@code after} come in the same order in both.
+     * {@code beforeEntries} and {@code afterEntries} hold the entries of each list.
+     */
+    private static boolean isKeptInOrder(List<ReadOnlyEntry> before, List<ReadOnlyEntry> after,
+                                         Set<ReadOnlyEntry> beforeEntries, Set<ReadOnlyEntry> afterEntries) {
+        Iterator<ReadOnlyEntry> kept = after.stream().filter(beforeEntries::contains).iterator();
+        for (ReadOnlyEntry entry : before) {
+            if (afterEntries.contains(entry) && (!kept.hasNext() || kept.next() != entry)) {
+                return false;
+            }
+        }
+        return !kept.hasNext();
+    }
+
+    /**
+     * Applies the complete saves in {@code journalFile} to {@code state}, ignoring an incomplete save at the end.
+     * The records of a save are read in full before any of them are applied, when its commit record is read.
+     * @return the number of records applied.
+     */
+    private static int replayJournal(File journalFile, State state) throws DataConversionException, IOException {
+        int applied = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journalFile)))) {
+            if (in.readInt() != JOURNAL_MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new DataConversionException(new IOException(journalFile + " is not a journal"));
+            }
+            List<Change> pending = new ArrayList<>();
+            while (true) {
+                byte record = in.readByte();
+                if (record == RECORD_COMMIT) {
+                    for (Change change : pending) {
+                        change.applyTo(state);
+                    }
+                    applied += pending.size();
+                    pending.clear();
+                    continue;
+                }
+                pending.add(readRecord(in, record));
+            }
+        } catch (EOFException e) {
+            return applied; // Any records after the last commit are from an incomplete save.
+        } catch (IllegalValueException | IndexOutOfBoundsException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static Change readRecord(DataInputStream in, byte record)
+            throws IOException, IllegalValueException, DataConversionException {
+        if (record == RECORD_TAGS) {
+            List<Tag> tags = readTags(in);
+            return state -> state.tags = tags;
+        }
+        int list = in.readByte();
+        if (list < 0 || list >= LIST_COUNT) {
+            throw new DataConversionException(new IOException("Unknown entry list " + list));
+        }
+        int index = in.readInt();
+        switch (record) {
+        case RECORD_ADD:
+            ReadOnlyEntry added = readEntry(in);
+            return state -> state.entries.get(list).add(index, added);
+        case RECORD_REMOVE:
+            int count = in.readInt();
+            return state -> state.entries.get(list).subList(index, index + count).clear();
+        case RECORD_UPDATE:
+            ReadOnlyEntry updated = readEntry(in);
+            return state -> state.entries.get(list).set(index, updated);
+        case RECORD_STATE:
+            Entry.State entryState = readState(in);
+            return state -> {
+                Entry entry = EntryBuilder.build(state.entries.get(list).get(index));
+                entry.setState(entryState);
+                state.entries.get(list).set(index, entry);
+            };
+        default:
+            throw new DataConversionException(new IOException("Unknown journal record " + record));
+        }
+    }
+
+    // ================= Checkpoint =================
+
+    /**
+     * Writes the checkpoint of {@code state} for journal {@code generation} in the background.
+     */
+    private void startCheckpoint(long generation, State state) {
+        String checkpointPath = filePath;
+        State checkpoint = state.copy();
+        checkpoint.generation = generation;
+        checkpointWriter.execute(() -> {
+            try {
+                writeCheckpoint(checkpointPath, checkpoint);
+            } catch (IOException e) {
+                logger.warning("Failed to write checkpoint, keeping the journals: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Writes the checkpoint of {@code state} for journal {@code generation} after any checkpoints being written
+     * in the background, and waits for it to be written.
+     */
+    private void awaitCheckpoint(long generation, State state) throws IOException {
+        String checkpointPath = filePath;
+        State checkpoint = state.copy();
+        checkpoint.generation = generation;
+        try {
+            checkpointWriter.submit(() -> {
+                writeCheckpoint(checkpointPath, checkpoint);
+                return null;
+            }).get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Waits for the checkpoints being written in the background to be written.
+     */
+    private static void awaitCheckpoints() throws IOException {
+        try {
+            checkpointWriter.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Waiting should not fail", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Replaces the checkpoint at {@code filePath} with {@code state}, then deletes the journals before it.
+     */
+    private static void writeCheckpoint(String filePath, State state) throws IOException {
+        File checkpointFile = getCheckpointFile(filePath);
+        File tempFile = new File(checkpointFile.getPath() + ".tmp");
+        FileUtil.createParentDirsOfFile(checkpointFile);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(state.generation);
+            out.writeLong(state.importedStamp.lastModified);
+            out.writeLong(state.importedStamp.length);
+            writeTags(out, state.tags);
+            for (List<ReadOnlyEntry> entries : state.entries) {
+                out.writeInt(entries.size());
+                for (ReadOnlyEntry entry : entries) {
+                    writeEntry(out, entry);
+                }
+            }
+        }
+        Files.move(tempFile.toPath(), checkpointFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                   StandardCopyOption.ATOMIC_MOVE);
+        for (long g : findJournalGenerations(filePath)) {
+            if (g < state.generation) {
+                Files.delete(getJournalFile(filePath, g).toPath());
+            }
+        }
+    }
+
+    private static State readCheckpoint(File checkpointFile) throws DataConversionException, IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(checkpointFile)))) {
+            if (in.readInt() != CHECKPOINT_MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new DataConversionException(new IOException(checkpointFile + " is not a checkpoint"));
+            }
+            long generation = in.readLong();
+            FileStamp importedStamp = new FileStamp(in.readLong(), in.readLong());
+            State state = new State(readTags(in), importedStamp);
+            state.generation = generation;
+            for (List<ReadOnlyEntry> entries : state.entries) {
+                int size = in.readInt();
+                for (int i = 0; i < size; ++i) {
+                    entries.add(readEntry(in));
+                }
+            }
+            return state;
+        } catch (EOFException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the generations of the journals kept for {@code filePath}, in increasing order.
+     */
+    private static List<Long> findJournalGenerations(String filePath) {
+        List<Long> generations = new ArrayList<>();
+        File parent = new File(filePath).getAbsoluteFile().getParentFile();
+        String prefix = new File(filePath).getName() + ".";
+        String[] names = parent == null ? null : parent.list();
+        if (names == null) {
+            return generations;
+        }
+        for (String name : names) {
+            if (name.startsWith(prefix) && name.endsWith(JOURNAL_FILE_SUFFIX)) {
+                try {
+                    String number = name.substring(prefix.length(), name.length() - JOURNAL_FILE_SUFFIX.length());
+                    generations.add(Long.parseLong(number));
+                } catch (NumberFormatException e) {
+                    // Not a journal of this data file
+                }
+            }
+        }
+        Collections.sort(generations);
+        return generations;
+    }
+
+    // ================= Encoding =================
+
+    private static void writeEntry(DataOutputStream out, ReadOnlyEntry entry) throws IOException {
+        out.writeUTF(entry.getName().fullName);
+        writeDate(out, entry.getStartDateAndTime());
+        writeDate(out, entry.getEndDateAndTime());
+        out.writeByte(entry.getState().ordinal());
+        out.writeShort(entry.getTags().size());
+        for (Tag tag : entry.getTags()) {
+            out.writeUTF(tag.tagName);
+        }
+    }
+
+    private static ReadOnlyEntry readEntry(DataInputStream in) throws IOException, IllegalValueException {
+        Name name = new Name(in.readUTF());
+        Calendar startDateAndTime = readDate(in);
+        Calendar endDateAndTime = readDate(in);
+        Entry.State state = readState(in);
+        int tagCount = in.readShort();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; ++i) {
+            tags.add(new Tag(in.readUTF()));
+        }
+        Entry entry = EntryBuilder.build(name, startDateAndTime, endDateAndTime, tags);
+        entry.setState(state);
+        return entry;
+    }
+
+    private static void writeDate(DataOutputStream out, Calendar date) throws IOException {
+        out.writeBoolean(date != null);
+        if (date != null) {
+            out.writeLong(date.getTimeInMillis());
+        }
+    }
+
+    private static Calendar readDate(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        Calendar date = Calendar.getInstance();
+        date.setTimeInMillis(in.readLong());
+        return date;
+    }
+
+    private static Entry.State readState(DataInputStream in) throws IOException {
+        int ordinal = in.readByte();
+        if (ordinal < 0 || ordinal >= Entry.State.values().length) {
+            throw new IOException("Unknown entry state " + ordinal);
+        }
+        return Entry.State.values()[ordinal];
+    }
+
+    private static void writeTags(DataOutputStream out, List<Tag> tags) throws IOException {
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeUTF(tag.tagName);
+        }
+    }
+
+    private static List<Tag> readTags(DataInputStream in) throws IOException, IllegalValueException {
+        int count = in.readInt();
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            tags.add(new Tag(in.readUTF()));
+        }
+        return tags;
+    }
+
+    // ================= Entry Comparison =================
+
+    /**
+     * Returns true if {@code after} is known to be the same as {@code before}, which is certain when they are
+     * the same object and is otherwise checked field by field.
+     */
+    private static boolean isUnchanged(ReadOnlyEntry before, ReadOnlyEntry after) {
+        return before == after || (before.isSameStateAs(after) && before.getTags().equals(after.getTags()));
+    }
+
+    /**
+     * A change read from a journal record, to be applied to the saved state.
+     */
+    @FunctionalInterface
+    private interface Change {
+        void applyTo(State state);
+    }
+
+    /**
+     * The entries and tags of an entry book as saved, with the generation of the journal that follows it.
+     * The entries are never changed in place.
+     */
+    private static class State {
+        private final List<List<ReadOnlyEntry>> entries = new ArrayList<>();
+        private List<Tag> tags;
+        private final FileStamp importedStamp;
+        private long generation;
+
+        State(List<Tag> tags, FileStamp importedStamp) {
+            for (int i = 0; i < LIST_COUNT; ++i) {
+                entries.add(new ArrayList<>());
+            }
+            this.tags = new ArrayList<>(tags);
+            this.importedStamp = importedStamp;
+        }
+
+        /**
+         * Returns the state of {@code entryBook}. The entries of a snapshot are kept as they are, and the entries
+         * of any other entry book are copied, as they may be changed in place after the save.
+         */
+        static State of(ReadOnlyEntryBook entryBook, FileStamp importedStamp) {
+            State state = new State(entryBook.getTagList(), importedStamp);
+            boolean isSnapshot = entryBook instanceof EntryBookSnapshot;
+            state.entries.set(EVENTS, toSavedList(entryBook.getEventList(), isSnapshot));
+            state.entries.set(DEADLINES, toSavedList(entryBook.getDeadlineList(), isSnapshot));
+            state.entries.set(FLOATING_TASKS, toSavedList(entryBook.getFloatingTaskList(), isSnapshot));
+            return state;
+        }
+
+        private static List<ReadOnlyEntry> toSavedList(List<ReadOnlyEntry> source, boolean isSnapshot) {
+            if (isSnapshot) {
+                return source; // Already unmodifiable, and only copies are changed when replaying a journal
+            }
+            List<ReadOnlyEntry> copies = new ArrayList<>(source.size());
+            for (ReadOnlyEntry entry : source) {
+                Entry copy = EntryBuilder.build(entry);
+                copy.setState(entry.getState());
+                copies.add(copy);
+            }
+            return copies;
+        }
+
+        State copy() {
+            State copy = new State(tags, importedStamp);
+            copy.setTo(this);
+            return copy;
+        }
+
+        void setTo(State other) {
+            for (int i = 0; i < LIST_COUNT; ++i) {
+                entries.set(i, new ArrayList<>(other.entries.get(i)));
+            }
+            tags = new ArrayList<>(other.tags);
+            generation = other.generation;
+        }
+
+        ReadOnlyEntryBook toEntryBook() {
+            return new EntryBookSnapshot(PersistentList.of(entries.get(EVENTS)),
+                                         PersistentList.of(entries.get(DEADLINES)),
+                                         PersistentList.of(entries.get(FLOATING_TASKS)), tags);
+        }
+    }
+
+    /**
+     * The last modified time and length of a file, for telling whether it has been replaced.
+     */
+    private static class FileStamp {
+        static final FileStamp NONE = new FileStamp(0, -1);
+
+        private final long lastModified;
+        private final long length;
+
+        FileStamp(long lastModified, long length) {
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        static FileStamp of(File file) {
+            return file.exists() ? new FileStamp(file.lastModified(), file.length()) : NONE;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof FileStamp && lastModified == ((FileStamp) other).lastModified
+                                     && length == ((FileStamp) other).length);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(lastModified) * 31 + Long.hashCode(length);
+        }
+    }
+
+}
@@ -5,8 +5,6 @@ import java.util.Optional;
 
 import seedu.multitasky.commons.events.model.EntryBookChangedEvent;
 import seedu.multitasky.commons.events.storage.DataSavingExceptionEvent;
-import seedu.multitasky.commons.events.storage.EntryBookToRedoEvent;
-import seedu.multitasky.commons.events.storage.EntryBookToUndoEvent;
 import seedu.multitasky.commons.events.storage.FilePathChangedEvent;
 import seedu.multitasky.commons.events.storage.LoadDataFromFilePathEvent;
 import seedu.multitasky.commons.exceptions.DataConversionException;
@@ -34,28 +32,18 @@ public interface Storage extends EntryBookStorage, UserPrefsStorage {
     void saveEntryBook(ReadOnlyEntryBook entryBook) throws IOException;
 
     /**
-     * Saves the current version of the Entry Book to the hard disk.
+     * Saves the current version of the Entry Book to the hard disk in the background.
      * Creates the data file if it is missing.
-     */
-    void handleEntryBookChangedEvent(EntryBookChangedEvent e);
-
-    // @@author A0132788U
-    /**
-     * Changes the current version of the Entry Book to the previous one on the hard disk.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
-     *
-     * @throws Exception
      */
-    void handleEntryBookToUndoEvent(EntryBookToUndoEvent e) throws Exception;
+    void handleEntryBookChangedEvent(EntryBookChangedEvent e);
 
     /**
-     * Changes the current version of the Entry Book to the next one (saved as a snapshot) on the hard disk.
-     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
-     *
-     * @throws Exception
+     * Waits until every version of the Entry Book handed in to be saved has been saved or has failed to save.
      */
-    void handleEntryBookToRedoEvent(EntryBookToRedoEvent e) throws Exception;
+    void flushPendingSaves();
 
+    // @@author A0132788U
     /**
      * Changes file path in Preferences.json to save data in a new location.
      *
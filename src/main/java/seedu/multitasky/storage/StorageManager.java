@@ -1,6 +1,5 @@
 package seedu.multitasky.storage;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -8,11 +7,11 @@ import java.util.logging.Logger;
 import com.google.common.eventbus.Subscribe;
 
 import seedu.multitasky.commons.core.ComponentManager;
+import seedu.multitasky.commons.core.Delivery;
 import seedu.multitasky.commons.core.LogsCenter;
 import seedu.multitasky.commons.events.model.EntryBookChangedEvent;
 import seedu.multitasky.commons.events.storage.DataSavingExceptionEvent;
-import seedu.multitasky.commons.events.storage.EntryBookToRedoEvent;
-import seedu.multitasky.commons.events.storage.EntryBookToUndoEvent;
+import seedu.multitasky.commons.events.storage.EntryBookSaveStatusChangedEvent;
 import seedu.multitasky.commons.events.storage.FilePathChangedEvent;
 import seedu.multitasky.commons.events.storage.LoadDataFromFilePathEvent;
 import seedu.multitasky.commons.exceptions.DataConversionException;
@@ -26,19 +25,41 @@ import seedu.multitasky.model.UserPrefs;
  * Manages EntryBook data in local storage.
  */
 public class StorageManager extends ComponentManager implements Storage {
-    /** Index to maintain snapshot file number */
-    private static int index = 0;
+    /** The name of the executor that changes to the entry book are handed to storage on. */
+    public static final String DELIVERY_EXECUTOR = "storage";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private EntryBookStorage entryBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private StorageUserPrefs userPrefs;
+    private final AsyncEntryBookSaver entryBookSaver;
 
     public StorageManager(EntryBookStorage entryBookStorage, UserPrefsStorage userPrefsStorage,
             StorageUserPrefs userPrefs) {
+        this(entryBookStorage, userPrefsStorage, userPrefs, AsyncEntryBookSaver.DEFAULT_COALESCING_MILLIS);
+    }
+
+    /**
+     * Creates a StorageManager that saves changes to the entry book in the background, coalescing the changes
+     * made within {@code coalescingMillis} of each other into a single save.
+     */
+    public StorageManager(EntryBookStorage entryBookStorage, UserPrefsStorage userPrefsStorage,
+            StorageUserPrefs userPrefs, long coalescingMillis) {
         super();
         this.entryBookStorage = entryBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.userPrefs = userPrefs;
+        this.entryBookSaver = new AsyncEntryBookSaver(this::saveEntryBook, new AsyncEntryBookSaver.SaveListener() {
+            @Override
+            public void saved(long version, long pendingVersions) {
+                raise(new EntryBookSaveStatusChangedEvent(version, pendingVersions));
+            }
+
+            @Override
+            public void failed(long version, IOException exception) {
+                raise(new DataSavingExceptionEvent(exception));
+            }
+        }, coalescingMillis);
     }
 
     // ================ EntryBook methods ==============================
@@ -75,14 +96,20 @@ public class StorageManager extends ComponentManager implements Storage {
         entryBookStorage.saveEntryBook(entryBook, filePath);
     }
 
+    @Override
+    public void flushPendingSaves() {
+        eventsCenter.awaitDelivery(DELIVERY_EXECUTOR);
+        entryBookSaver.flush();
+    }
+
     /**
-     * Loads data from the given file.
+     * Loads data from the given file, in whichever format the entry book storage reads it.
      *
      * @throws Exception
      */
     public EntryBook loadDataFromFile(String filepath) throws Exception {
         try {
-            ReadOnlyEntryBook dataFromFile = XmlFileStorage.loadDataFromSaveFile(new File(filepath));
+            ReadOnlyEntryBook dataFromFile = entryBookStorage.readEntryBook(filepath).get();
             return new EntryBook(dataFromFile);
         } catch (Exception e) {
             throw new Exception("Nothing to load from!");
@@ -105,136 +132,28 @@ public class StorageManager extends ComponentManager implements Storage {
     public void saveUserPrefs(UserPrefs userPrefs) throws IOException {
         userPrefsStorage.saveUserPrefs(userPrefs);
     }
-    // ================ StorageUserPrefs methods ==============================
-
-    /**
-     * Gets and sets the proper filepath of the previous snapshot needed for undo
-     */
-    public String getPreviousEntryBookSnapshotPath() {
-        decrementIndexByOne();
-        return userPrefs.getEntryBookSnapshotPath() + getIndex() + ".xml";
-    }
-
-    public void setPreviousEntryBookSnapshotPath(String filepath) {
-        userPrefs.setEntryBookSnapshotPath(filepath);
-    }
-
-    /**
-     * Gets and sets the proper filepath of the next snapshot needed for redo
-     */
-    public String getNextEntryBookSnapshotPath() {
-        incrementIndexByOne();
-        return userPrefs.getEntryBookSnapshotPath() + getIndex() + ".xml";
-    }
-
-    public void setNextEntryBookSnapshotPath(String filepath) {
-        userPrefs.setEntryBookSnapshotPath(filepath);
-    }
-
-    /**
-     * Gets the proper filepath of the current snapshot with index
-     */
-    public String getEntryBookSnapshotPath() {
-        return userPrefs.getEntryBookSnapshotPath() + index + ".xml";
-    }
-
-    /**
-     * Gets the filepath of the most current snapshot xml file and increments index by one.
-     */
-    public String setEntryBookSnapshotPathAndUpdateIndex() {
-        incrementIndexByOne();
-        return getEntryBookSnapshotPath();
-    }
-
-    /**
-     * Saves the entryBookSnapshot at the file path given by above method.
-     */
-    public void saveEntryBookSnapshot(ReadOnlyEntryBook entryBook) throws IOException {
-        saveEntryBook(entryBook, setEntryBookSnapshotPathAndUpdateIndex());
-    }
-
-    // ================ StorageManager methods ==============================
-    /**
-     * Methods to update the indices when files are created during mutation/deleted during startup.
-     */
-    public static void incrementIndexByOne() {
-        index++;
-    }
-
-    public static void decrementIndexByOne() {
-        index--;
-    }
-
-    public static int getIndex() {
-        return index;
-    }
-
-    public static void setIndex(int index) {
-        StorageManager.index = index;
-    }
-
     // ================ Event Handling methods ==============================
     /**
-     * Saves the data to the entrybook at the filepath specified and also creates a snapshot in data/snapshots.
+     * Hands the data to the background writer to be saved to the entrybook at the filepath specified.
+     * Changes are handed in off the thread that made them, so that saving never delays a command.
      */
     @Override
     @Subscribe
+    @Delivery(value = Delivery.Mode.ASYNC, executor = DELIVERY_EXECUTOR)
     public void handleEntryBookChangedEvent(EntryBookChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveEntryBook(event.data);
-            saveEntryBookSnapshot(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
-    }
-
-    /**
-     * Saves data from the previous snapshot to the current entrybook and passes back
-     * the event data to ModelManager to update the display.
-     * Sets error message if unable to undo.
-     *
-     * @throws Exception
-     */
-    @Override
-    @Subscribe
-    public void handleEntryBookToUndoEvent(EntryBookToUndoEvent event) throws Exception {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Load previous snapshot"));
-        try {
-            EntryBook entry = loadDataFromFile(getPreviousEntryBookSnapshotPath());
-            saveEntryBook(entry);
-            event.setData(entry);
-            event.setMessage("undo successful");
-        } catch (Exception e) {
-            event.setMessage("Nothing to undo");
-            incrementIndexByOne();
-        }
-    }
-
-    /**
-     * Saves data from the next snapshot to the current entrybook and passes back
-     * the event data to ModelManager to update the display.
-     * Sets error message if unable to redo.
-     *
-     * @throws Exception
-     */
-    @Override
-    @Subscribe
-    public void handleEntryBookToRedoEvent(EntryBookToRedoEvent event) throws Exception {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Load next snapshot"));
-        try {
-            EntryBook entry = loadDataFromFile(getNextEntryBookSnapshotPath());
-            saveEntryBook(entry);
-            event.setData(entry);
-            event.setMessage("redo successful");
-        } catch (Exception e) {
-            event.setMessage("Nothing to redo");
-            decrementIndexByOne();
-        }
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        // A mutable entry book may be changed while it is being written, so its unchanging snapshot is saved.
+        ReadOnlyEntryBook data = event.data instanceof EntryBook ? ((EntryBook) event.data).getSnapshot()
+                                                                 : event.data;
+        entryBookSaver.submit(data, event.version);
+        raise(new EntryBookSaveStatusChangedEvent(entryBookSaver.getLastSavedVersion(),
+                                                  entryBookSaver.getPendingVersions()));
     }
 
     /**
      * Saves data of the entrybook at the filepath specified.
+     * The data is saved in full while the file path is still the old one, so that the new data file holds the
+     * whole entry book, and later changes are saved from it.
      *
      * @throws IOException
      */
@@ -242,9 +161,10 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleFilePathChangedEvent(FilePathChangedEvent event) throws IOException {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "File path changed, saving to file"));
+        flushPendingSaves();
+        saveEntryBook(event.data, event.getNewFilePath());
         entryBookStorage.setEntryBookFilePath(event.getNewFilePath());
         userPrefs.setEntryBookFilePath(event.getNewFilePath());
-        saveEntryBook(event.data, event.getNewFilePath());
     }
 
     /**
@@ -256,6 +176,7 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleLoadDataFromFilePathEvent(LoadDataFromFilePathEvent event) throws Exception {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Data changed, opening file and loading data"));
+        flushPendingSaves();
         try {
             EntryBook entry = loadDataFromFile(event.getFilepath());
             saveEntryBook(entry);
@@ -21,6 +21,9 @@ import seedu.multitasky.storage.util.StorageDateConverter;
  */
 public class XmlAdaptedEntry {
 
+    /** To convert Date to String to store in XML file and String back to Date to return to Model */
+    private static final StorageDateConverter converter = StorageDateConverter.INSTANCE;
+
     @XmlElement(required = true)
     private String name;
 
@@ -33,9 +36,6 @@ public class XmlAdaptedEntry {
     @XmlElement
     private List<XmlAdaptedTag> tagged = new ArrayList<>();
 
-    /** To convert Date to String to store in XML file and String back to Date to return to Model */
-    private StorageDateConverter converter = new StorageDateConverter();
-
     /**
      * Constructs an XmlAdaptedEntry. This is the no-arg constructor that is
      * required by JAXB.
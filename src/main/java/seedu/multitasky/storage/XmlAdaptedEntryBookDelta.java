@@ -0,0 +1,86 @@
+package seedu.multitasky.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlElement;
+
+import seedu.multitasky.commons.exceptions.IllegalValueException;
+import seedu.multitasky.model.EntryBookDelta;
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+import seedu.multitasky.model.tag.Tag;
+
+/**
+ * JAXB-friendly version of the EntryBookDelta.
+ */
+public class XmlAdaptedEntryBookDelta {
+
+    @XmlElement
+    private List<XmlAdaptedEntry> removed = new ArrayList<>();
+    @XmlElement
+    private List<Integer> removedIndices = new ArrayList<>();
+    @XmlElement
+    private List<XmlAdaptedEntry> added = new ArrayList<>();
+    @XmlElement
+    private List<Integer> addedIndices = new ArrayList<>();
+    @XmlElement
+    private boolean tagsChanged;
+    @XmlElement
+    private List<XmlAdaptedTag> tagsBefore = new ArrayList<>();
+    @XmlElement
+    private List<XmlAdaptedTag> tagsAfter = new ArrayList<>();
+
+    /**
+     * Constructs an XmlAdaptedEntryBookDelta. This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedEntryBookDelta() {
+    }
+
+    /**
+     * Converts a given EntryBookDelta into this class for JAXB use.
+     */
+    public XmlAdaptedEntryBookDelta(EntryBookDelta source) {
+        source.getRemovedEntries().forEach(entry -> removed.add(new XmlAdaptedEntry(entry)));
+        removedIndices.addAll(source.getRemovedIndices());
+        source.getAddedEntries().forEach(entry -> added.add(new XmlAdaptedEntry(entry)));
+        addedIndices.addAll(source.getAddedIndices());
+        tagsChanged = source.getTagsAfter() != null;
+        if (tagsChanged) {
+            source.getTagsBefore().forEach(tag -> tagsBefore.add(new XmlAdaptedTag(tag)));
+            source.getTagsAfter().forEach(tag -> tagsAfter.add(new XmlAdaptedTag(tag)));
+        }
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted delta object into the model's EntryBookDelta object.
+     *
+     * @throws Exception if there were any data constraints violated in the adapted entries or tags.
+     */
+    public EntryBookDelta toModelType() throws Exception {
+        if (removed.size() != removedIndices.size() || added.size() != addedIndices.size()) {
+            throw new IllegalValueException("Each entry in an undo history step must have an index");
+        }
+        List<ReadOnlyEntry> removedEntries = new ArrayList<>();
+        for (XmlAdaptedEntry entry : removed) {
+            removedEntries.add(entry.toModelType());
+        }
+        List<ReadOnlyEntry> addedEntries = new ArrayList<>();
+        for (XmlAdaptedEntry entry : added) {
+            addedEntries.add(entry.toModelType());
+        }
+        if (!tagsChanged) {
+            return new EntryBookDelta(removedEntries, removedIndices, addedEntries, addedIndices, null, null);
+        }
+        return new EntryBookDelta(removedEntries, removedIndices, addedEntries, addedIndices,
+                                  toTags(tagsBefore), toTags(tagsAfter));
+    }
+
+    private static List<Tag> toTags(List<XmlAdaptedTag> adaptedTags) throws Exception {
+        List<Tag> tags = new ArrayList<>();
+        for (XmlAdaptedTag tag : adaptedTags) {
+            tags.add(tag.toModelType());
+        }
+        return tags;
+    }
+
+}
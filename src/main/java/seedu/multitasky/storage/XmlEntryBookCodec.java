@@ -0,0 +1,386 @@
+package seedu.multitasky.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.multitasky.commons.exceptions.DataConversionException;
+import seedu.multitasky.commons.exceptions.IllegalValueException;
+import seedu.multitasky.commons.util.FileUtil;
+import seedu.multitasky.model.EntryBookSnapshot;
+import seedu.multitasky.model.ReadOnlyEntryBook;
+import seedu.multitasky.model.entry.Deadline;
+import seedu.multitasky.model.entry.Entry;
+import seedu.multitasky.model.entry.Event;
+import seedu.multitasky.model.entry.Name;
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+import seedu.multitasky.model.entry.util.PersistentList;
+import seedu.multitasky.model.tag.Tag;
+import seedu.multitasky.model.util.EntryBuilder;
+import seedu.multitasky.storage.util.StorageDateConverter;
+
+/**
+ * Reads and writes entry books in the XML format of {@link XmlSerializableEntryBook}, one element at a time.
+ * Entries are written straight from model objects, and read in chunks that are converted into model objects on
+ * the common fork-join pool while the rest of the document is read, so the whole document is never held in
+ * memory as adapted objects, and converting the entries is spread over the available cores.
+ * Elements that are not part of the format are skipped when reading, as they are by JAXB.
+ */
+public class XmlEntryBookCodec {
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+    private static final String INDENT = "    ";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int CONVERSION_CHUNK_SIZE = 1024;
+
+    private static final String ROOT = "entrybook";
+    private static final String EVENTS = "events";
+    private static final String FLOATING_TASKS = "floatingTasks";
+    private static final String DEADLINES = "deadlines";
+    private static final String TAGS = "tags";
+    private static final String NAME = "name";
+    private static final String START_DATE_AND_TIME = "startDateAndTime";
+    private static final String END_DATE_AND_TIME = "endDateAndTime";
+    private static final String STATE = "state";
+    private static final String TAGGED = "tagged";
+
+    private static final StorageDateConverter converter = StorageDateConverter.INSTANCE;
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Returns the entry book in {@code file}.
+     * Each entry is put in the list of its type, whichever list element it was found in.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not well-formed XML, or holds an entry or tag that is not
+     *             valid.
+     */
+    public static ReadOnlyEntryBook read(File file) throws DataConversionException, IOException {
+        requireNonNull(file);
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Returns the entry book read from {@code in}, which is left open.
+     *
+     * @see #read(File)
+     */
+    public static ReadOnlyEntryBook read(InputStream in) throws DataConversionException {
+        requireNonNull(in);
+        try {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                return readEntryBook(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static ReadOnlyEntryBook readEntryBook(XMLStreamReader reader)
+            throws XMLStreamException, IllegalValueException {
+        if (!nextElement(reader) || !reader.getLocalName().equals(ROOT)) {
+            throw new IllegalValueException("The document is not an entry book");
+        }
+
+        List<Future<List<Entry>>> conversions = new ArrayList<>();
+        List<StoredEntry> chunk = new ArrayList<>(CONVERSION_CHUNK_SIZE);
+        List<Tag> tags = new ArrayList<>();
+        try {
+            while (nextElement(reader)) {
+                switch (reader.getLocalName()) {
+                case EVENTS:
+                case FLOATING_TASKS:
+                case DEADLINES:
+                    chunk.add(readEntry(reader));
+                    if (chunk.size() == CONVERSION_CHUNK_SIZE) {
+                        List<StoredEntry> fullChunk = chunk;
+                        conversions.add(ForkJoinPool.commonPool().submit(() -> toModelTypes(fullChunk)));
+                        chunk = new ArrayList<>(CONVERSION_CHUNK_SIZE);
+                    }
+                    break;
+                case TAGS:
+                    tags.add(new Tag(reader.getElementText()));
+                    break;
+                default:
+                    skipElement(reader);
+                }
+            }
+        } catch (XMLStreamException | IllegalValueException | RuntimeException e) {
+            conversions.forEach(conversion -> conversion.cancel(false));
+            throw e;
+        }
+        List<Entry> lastChunk = toModelTypes(chunk);
+
+        List<ReadOnlyEntry> events = new ArrayList<>();
+        List<ReadOnlyEntry> deadlines = new ArrayList<>();
+        List<ReadOnlyEntry> floatingTasks = new ArrayList<>();
+        for (int i = 0; i <= conversions.size(); ++i) {
+            List<Entry> converted = i < conversions.size() ? getConverted(conversions.get(i)) : lastChunk;
+            for (Entry entry : converted) {
+                if (entry instanceof Event) {
+                    events.add(entry);
+                } else if (entry instanceof Deadline) {
+                    deadlines.add(entry);
+                } else {
+                    floatingTasks.add(entry);
+                }
+            }
+        }
+        return new EntryBookSnapshot(PersistentList.of(events), PersistentList.of(deadlines),
+                                     PersistentList.of(floatingTasks), tags);
+    }
+
+    private static StoredEntry readEntry(XMLStreamReader reader) throws XMLStreamException {
+        StoredEntry entry = new StoredEntry();
+        while (nextElement(reader)) {
+            switch (reader.getLocalName()) {
+            case NAME:
+                entry.name = reader.getElementText();
+                break;
+            case START_DATE_AND_TIME:
+                entry.startDateAndTime = reader.getElementText();
+                break;
+            case END_DATE_AND_TIME:
+                entry.endDateAndTime = reader.getElementText();
+                break;
+            case STATE:
+                entry.state = reader.getElementText();
+                break;
+            case TAGGED:
+                entry.tagged.add(reader.getElementText());
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return entry;
+    }
+
+    private static List<Entry> toModelTypes(List<StoredEntry> storedEntries) throws IllegalValueException {
+        List<Entry> entries = new ArrayList<>(storedEntries.size());
+        for (StoredEntry storedEntry : storedEntries) {
+            entries.add(storedEntry.toModelType());
+        }
+        return entries;
+    }
+
+    /**
+     * Waits for {@code conversion} to finish, and returns the entries it converted.
+     *
+     * @throws IllegalValueException if one of the entries is not valid.
+     */
+    private static List<Entry> getConverted(Future<List<Entry>> conversion) throws IllegalValueException {
+        try {
+            return conversion.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IllegalValueException) {
+                throw (IllegalValueException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new AssertionError("Converting entries should not throw " + e.getCause(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalValueException("Interrupted while converting the entries read");
+        }
+    }
+
+    private static Entry.State toState(String state) throws IllegalValueException {
+        try {
+            return Entry.State.valueOf(state);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException("Invalid entry state: " + state);
+        }
+    }
+
+    /**
+     * Moves {@code reader} to the start of the next child element of the current element, and returns true, or to
+     * the end of the current element if it has no more child elements, and returns false.
+     */
+    private static boolean nextElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+            case XMLStreamConstants.START_ELEMENT:
+                return true;
+            case XMLStreamConstants.END_ELEMENT:
+                return false;
+            default:
+                // Whitespace, comments and processing instructions between elements are ignored.
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves {@code reader} from the start of the current element to its end, past all its content.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Writes {@code entryBook} to {@code file}, replacing its content.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     */
+    public static void write(File file, ReadOnlyEntryBook entryBook) throws IOException {
+        requireNonNull(file);
+        requireNonNull(entryBook);
+        if (!file.exists()) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file),
+                                                                    StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            write(out, entryBook);
+        }
+    }
+
+    /**
+     * Writes {@code entryBook} to {@code out}, which is left open.
+     * The document is indented as JAXB formats it, and declared to be in UTF-8.
+     */
+    public static void write(Writer out, ReadOnlyEntryBook entryBook) throws IOException {
+        requireNonNull(out);
+        requireNonNull(entryBook);
+        try {
+            out.write(XML_DECLARATION);
+            XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out);
+            writeEntryBook(writer, entryBook);
+            writer.close();
+            out.write('\n');
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static void writeEntryBook(XMLStreamWriter writer, ReadOnlyEntryBook entryBook)
+            throws XMLStreamException {
+        writer.writeCharacters("\n");
+        writer.writeStartElement(ROOT);
+        for (ReadOnlyEntry event : entryBook.getEventList()) {
+            writeEntry(writer, EVENTS, event);
+        }
+        for (ReadOnlyEntry floatingTask : entryBook.getFloatingTaskList()) {
+            writeEntry(writer, FLOATING_TASKS, floatingTask);
+        }
+        for (ReadOnlyEntry deadline : entryBook.getDeadlineList()) {
+            writeEntry(writer, DEADLINES, deadline);
+        }
+        for (Tag tag : entryBook.getTagList()) {
+            writeTextElement(writer, 1, TAGS, tag.tagName);
+        }
+        writer.writeCharacters("\n");
+        writer.writeEndElement();
+        writer.writeEndDocument();
+    }
+
+    private static void writeEntry(XMLStreamWriter writer, String elementName, ReadOnlyEntry entry)
+            throws XMLStreamException {
+        writer.writeCharacters("\n" + INDENT);
+        writer.writeStartElement(elementName);
+        writeTextElement(writer, 2, NAME, entry.getName().fullName);
+        if (entry.getStartDateAndTime() != null) {
+            writeTextElement(writer, 2, START_DATE_AND_TIME,
+                             converter.convertDateToString(entry.getStartDateAndTime()));
+        }
+        if (entry.getEndDateAndTime() != null) {
+            writeTextElement(writer, 2, END_DATE_AND_TIME, converter.convertDateToString(entry.getEndDateAndTime()));
+        }
+        writeTextElement(writer, 2, STATE, entry.getState().toString());
+        for (Tag tag : entry.getTags()) {
+            writeTextElement(writer, 2, TAGGED, tag.tagName);
+        }
+        writer.writeCharacters("\n" + INDENT);
+        writer.writeEndElement();
+    }
+
+    private static void writeTextElement(XMLStreamWriter writer, int depth, String elementName, String text)
+            throws XMLStreamException {
+        writer.writeCharacters("\n");
+        for (int i = 0; i < depth; ++i) {
+            writer.writeCharacters(INDENT);
+        }
+        writer.writeStartElement(elementName);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    /**
+     * The fields of an entry as they are stored, read on the reading thread and converted into an {@link Entry}
+     * by {@link #toModelType()} on any thread.
+     */
+    private static class StoredEntry {
+        private String name;
+        private String startDateAndTime;
+        private String endDateAndTime;
+        private String state;
+        private final List<String> tagged = new ArrayList<>();
+
+        Entry toModelType() throws IllegalValueException {
+            if (name == null) {
+                throw new IllegalValueException("Entry without a name");
+            }
+            Calendar start = startDateAndTime == null ? null : converter.convertStringToDate(startDateAndTime);
+            Calendar end = endDateAndTime == null ? null : converter.convertStringToDate(endDateAndTime);
+            Set<Tag> tags = new HashSet<>();
+            for (String tagName : tagged) {
+                tags.add(new Tag(tagName));
+            }
+
+            Entry entry = EntryBuilder.build(new Name(name), start, end, tags);
+            entry.setState(state == null ? Entry.State.ACTIVE : toState(state));
+            return entry;
+        }
+    }
+
+}
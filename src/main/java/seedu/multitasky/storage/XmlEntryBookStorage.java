@@ -3,7 +3,6 @@ package seedu.multitasky.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -49,7 +48,7 @@ public class XmlEntryBookStorage implements EntryBookStorage {
      */
     @Override
     public Optional<ReadOnlyEntryBook> readEntryBook(String filePath) throws DataConversionException,
-            FileNotFoundException {
+            IOException {
         requireNonNull(filePath);
 
         File entryBookFile = new File(filePath);
@@ -81,7 +80,7 @@ public class XmlEntryBookStorage implements EntryBookStorage {
 
         File file = new File(filePath);
         FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableEntryBook(entryBook));
+        XmlFileStorage.saveDataToFile(file, entryBook);
     }
 
 }
@@ -1,12 +1,10 @@
 package seedu.multitasky.storage;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-
-import javax.xml.bind.JAXBException;
+import java.io.IOException;
 
 import seedu.multitasky.commons.exceptions.DataConversionException;
-import seedu.multitasky.commons.util.XmlUtil;
+import seedu.multitasky.model.ReadOnlyEntryBook;
 
 /**
  * Stores entrybook data in an XML file
@@ -15,25 +13,15 @@ public class XmlFileStorage {
     /**
      * Saves the given entrybook data to the specified file.
      */
-    public static void saveDataToFile(File file, XmlSerializableEntryBook entryBook)
-            throws FileNotFoundException {
-        try {
-            XmlUtil.saveDataToFile(file, entryBook);
-        } catch (JAXBException e) {
-            assert false : "Unexpected exception " + e.getMessage();
-        }
+    public static void saveDataToFile(File file, ReadOnlyEntryBook entryBook) throws IOException {
+        XmlEntryBookCodec.write(file, entryBook);
     }
 
     /**
      * Returns entry book in the file or an empty entry book
      */
-    public static XmlSerializableEntryBook loadDataFromSaveFile(File file) throws DataConversionException,
-            FileNotFoundException {
-        try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableEntryBook.class);
-        } catch (JAXBException e) {
-            throw new DataConversionException(e);
-        }
+    public static ReadOnlyEntryBook loadDataFromSaveFile(File file) throws DataConversionException, IOException {
+        return XmlEntryBookCodec.read(file);
     }
 
 }
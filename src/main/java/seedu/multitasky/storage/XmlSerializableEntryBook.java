@@ -67,50 +67,37 @@ public class XmlSerializableEntryBook implements ReadOnlyEntryBook {
 
     @Override
     public ObservableList<ReadOnlyEntry> getEventList() {
-        final ObservableList<Entry> events = this.events.stream().map(p -> {
-            try {
-                return p.toModelType();
-            } catch (Exception e) {
-                return null;
-            }
-        }).collect(Collectors.toCollection(FXCollections::observableArrayList));
-        return new UnmodifiableObservableList<>(events);
+        return toModelTypes(events);
     }
 
     @Override
     public ObservableList<ReadOnlyEntry> getDeadlineList() {
-        final ObservableList<Entry> deadlines = this.deadlines.stream().map(p -> {
-            try {
-                return p.toModelType();
-            } catch (Exception e) {
-                return null;
-            }
-        }).collect(Collectors.toCollection(FXCollections::observableArrayList));
-        return new UnmodifiableObservableList<>(deadlines);
+        return toModelTypes(deadlines);
     }
 
     @Override
     public ObservableList<ReadOnlyEntry> getFloatingTaskList() {
-        final ObservableList<Entry> floatingTasks = this.floatingTasks.stream().map(p -> {
-            try {
-                return p.toModelType();
-            } catch (Exception e) {
-                return null;
-            }
-        }).collect(Collectors.toCollection(FXCollections::observableArrayList));
-        return new UnmodifiableObservableList<>(floatingTasks);
+        return toModelTypes(floatingTasks);
     }
 
     @Override
     public ObservableList<ReadOnlyEntry> getAllEntries() {
-        final ObservableList<Entry> active = this.active.stream().map(p -> {
+        return toModelTypes(active);
+    }
+
+    /**
+     * Converts {@code adaptedEntries} into model entries, in chunks spread over the common fork-join pool, keeping
+     * their order. Entries that are not valid are converted to null.
+     */
+    private static ObservableList<ReadOnlyEntry> toModelTypes(List<XmlAdaptedEntry> adaptedEntries) {
+        final List<Entry> entries = adaptedEntries.parallelStream().map(p -> {
             try {
                 return p.toModelType();
             } catch (Exception e) {
                 return null;
             }
-        }).collect(Collectors.toCollection(FXCollections::observableArrayList));
-        return new UnmodifiableObservableList<>(active);
+        }).collect(Collectors.toList());
+        return new UnmodifiableObservableList<>(FXCollections.observableArrayList(entries));
     }
 
     @Override
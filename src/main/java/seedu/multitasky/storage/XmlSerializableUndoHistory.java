@@ -0,0 +1,55 @@
+package seedu.multitasky.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.multitasky.model.EntryBookDelta;
+import seedu.multitasky.model.UndoHistory;
+
+/**
+ * An UndoHistory that is serializable to XML format.
+ */
+@XmlRootElement(name = "undohistory")
+public class XmlSerializableUndoHistory {
+
+    @XmlElement
+    private List<XmlAdaptedEntryBookDelta> undo = new ArrayList<>();
+    @XmlElement
+    private List<XmlAdaptedEntryBookDelta> redo = new ArrayList<>();
+
+    /**
+     * Creates an empty XmlSerializableUndoHistory. This empty constructor is required for marshalling.
+     */
+    public XmlSerializableUndoHistory() {
+    }
+
+    /**
+     * Conversion
+     */
+    public XmlSerializableUndoHistory(UndoHistory src) {
+        src.getUndoDeltas().forEach(delta -> undo.add(new XmlAdaptedEntryBookDelta(delta)));
+        src.getRedoDeltas().forEach(delta -> redo.add(new XmlAdaptedEntryBookDelta(delta)));
+    }
+
+    /**
+     * Replaces the steps of {@code history} with the steps in this object.
+     *
+     * @throws Exception if there were any data constraints violated in the adapted deltas.
+     */
+    public void copyTo(UndoHistory history) throws Exception {
+        history.setDeltas(toModelType(undo), toModelType(redo));
+    }
+
+    private static List<EntryBookDelta> toModelType(List<XmlAdaptedEntryBookDelta> adaptedDeltas)
+            throws Exception {
+        List<EntryBookDelta> deltas = new ArrayList<>();
+        for (XmlAdaptedEntryBookDelta delta : adaptedDeltas) {
+            deltas.add(delta.toModelType());
+        }
+        return deltas;
+    }
+
+}
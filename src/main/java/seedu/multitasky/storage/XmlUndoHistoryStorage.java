@@ -0,0 +1,66 @@
+package seedu.multitasky.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.multitasky.commons.core.LogsCenter;
+import seedu.multitasky.commons.exceptions.DataConversionException;
+import seedu.multitasky.commons.util.FileUtil;
+import seedu.multitasky.commons.util.XmlUtil;
+import seedu.multitasky.model.UndoHistory;
+
+/**
+ * A class to keep the undo history as an xml file on the hard disk, so that it lasts between runs of the app.
+ */
+public class XmlUndoHistoryStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(XmlUndoHistoryStorage.class);
+
+    private final String filePath;
+
+    public XmlUndoHistoryStorage(String filePath) {
+        this.filePath = requireNonNull(filePath);
+    }
+
+    public String getUndoHistoryFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Replaces the steps of {@code history} with those saved in the file, if there is one.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public void readUndoHistory(UndoHistory history) throws DataConversionException, IOException {
+        requireNonNull(history);
+        File file = new File(filePath);
+        if (!file.exists()) {
+            logger.info("Undo history file " + file + " not found");
+            return;
+        }
+        try {
+            XmlUtil.getDataFromFile(file, XmlSerializableUndoHistory.class).copyTo(history);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    public void saveUndoHistory(UndoHistory history) throws IOException {
+        requireNonNull(history);
+        File file = new File(filePath);
+        FileUtil.createIfMissing(file);
+        try {
+            XmlUtil.saveDataToFile(file, new XmlSerializableUndoHistory(history));
+        } catch (JAXBException e) {
+            assert false : "Unexpected exception " + e.getMessage();
+        }
+    }
+
+}
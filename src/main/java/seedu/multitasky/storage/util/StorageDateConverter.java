@@ -1,61 +1,138 @@
 package seedu.multitasky.storage.util;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.Calendar;
-import java.util.Date;
+import java.util.GregorianCalendar;
+
+import seedu.multitasky.commons.exceptions.IllegalValueException;
 
 //@@author A0132788U
 /**
  * Class that implements methods to convert Date to String to enable Storage to store dates
  * in an editable form inside the XML file.
  * Parses String and converts it back to Date.
+ * Dates are stored in the fixed-width form {@code dd/MM/yy HH:mm}, which is read and written field by field,
+ * so a converter holds no state and one converter can be shared by any number of threads.
  */
 public class StorageDateConverter {
 
-    /** Formatter to parse date into a human-editable string to store in the XML file */
-    private DateFormat formatter = new SimpleDateFormat("dd/MM/yy HH:mm");
+    /** A converter that can be shared, as converters hold no state. */
+    public static final StorageDateConverter INSTANCE = new StorageDateConverter();
 
-    public StorageDateConverter() {
-        super();
-        formatter.setLenient(false);
-    }
+    /** The length of a date in the form {@code dd/MM/yy HH:mm}. */
+    private static final int LENGTH = 14;
+
+    /**
+     * The first year that two-digit years are read as. Like {@code SimpleDateFormat}, two-digit years are read
+     * as the years from 80 years before to 20 years after the time the class is loaded.
+     */
+    private static final int DEFAULT_CENTURY_START = LocalDate.now().getYear() - 80;
 
     /**
      * This converts the Calendar object into a string type to be stored in XML file in a human editable
      * format.
      */
     public String convertDateToString(Calendar given) {
-        String dateToString = formatter.format(given.getTime());
-        return dateToString;
+        char[] chars = new char[LENGTH];
+        putTwoDigits(chars, 0, given.get(Calendar.DAY_OF_MONTH));
+        chars[2] = '/';
+        putTwoDigits(chars, 3, given.get(Calendar.MONTH) + 1);
+        chars[5] = '/';
+        putTwoDigits(chars, 6, given.get(Calendar.YEAR) % 100);
+        chars[8] = ' ';
+        putTwoDigits(chars, 9, given.get(Calendar.HOUR_OF_DAY));
+        chars[11] = ':';
+        putTwoDigits(chars, 12, given.get(Calendar.MINUTE));
+        return new String(chars);
     }
 
     /**
      * This converts a String to a Calendar object to be passed back to Model.
+     * Days, months, hours and minutes may also be written with one digit, and years with four digits, as they
+     * could be when dates were read with {@code SimpleDateFormat}.
      *
-     * @throws Exception
+     * @throws IllegalValueException if {@code given} is not a valid date in the stored form.
      */
-    public Calendar convertStringToDate(String given) throws Exception {
-        Calendar setDate = null;
-        Date toConvert = new Date();
-        try {
-            toConvert = formatter.parse(given);
-            setDate = setTheTime(toConvert);
-        } catch (ParseException e) {
-            throw new Exception("Unable to set the time!");
+    public Calendar convertStringToDate(String given) throws IllegalValueException {
+        Cursor cursor = new Cursor(given);
+        int day = cursor.readNumber(1, 2);
+        cursor.expect('/');
+        int month = cursor.readNumber(1, 2);
+        cursor.expect('/');
+        int yearStart = cursor.position;
+        int year = cursor.readNumber(2, 4);
+        boolean isTwoDigitYear = cursor.position - yearStart == 2;
+        cursor.expect(' ');
+        int hour = cursor.readNumber(1, 2);
+        cursor.expect(':');
+        int minute = cursor.readNumber(1, 2);
+        cursor.expectEnd();
+
+        if (isTwoDigitYear) {
+            year += DEFAULT_CENTURY_START - DEFAULT_CENTURY_START % 100;
+            if (year < DEFAULT_CENTURY_START) {
+                year += 100;
+            }
+        }
+        if (month < 1 || month > 12 || day < 1 || day > LocalDate.of(year, month, 1).lengthOfMonth()
+            || hour > 23 || minute > 59) {
+            throw unableToSetTime();
         }
-        setDate.setTime(toConvert);
-        return setDate;
+        return new GregorianCalendar(year, month - 1, day, hour, minute);
+    }
+
+    private static void putTwoDigits(char[] chars, int index, int value) {
+        chars[index] = (char) ('0' + value / 10);
+        chars[index + 1] = (char) ('0' + value % 10);
+    }
+
+    private static IllegalValueException unableToSetTime() {
+        return new IllegalValueException("Unable to set the time!");
     }
 
     /**
-     * Sub-method to convert Date to String.
+     * Reads the fields of a date from left to right.
      */
-    public Calendar setTheTime(Date given) {
-        Calendar toBeSet = Calendar.getInstance();
-        toBeSet.setTime(given);
-        return toBeSet;
+    private static class Cursor {
+        private final String text;
+        private int position;
+
+        Cursor(String text) {
+            this.text = text;
+        }
+
+        /**
+         * Reads a number of {@code minDigits} to {@code maxDigits} digits.
+         */
+        int readNumber(int minDigits, int maxDigits) throws IllegalValueException {
+            int start = position;
+            int value = 0;
+            while (position < text.length() && position - start < maxDigits) {
+                char c = text.charAt(position);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = value * 10 + (c - '0');
+                position++;
+            }
+            if (position - start < minDigits) {
+                throw unableToSetTime();
+            }
+            return value;
+        }
+
+        void expect(char separator) throws IllegalValueException {
+            if (position >= text.length() || text.charAt(position) != separator) {
+                throw unableToSetTime();
+            }
+            position++;
+        }
+
+        void expectEnd() throws IllegalValueException {
+            if (position != text.length()) {
+                throw unableToSetTime();
+            }
+        }
     }
 
 }
@@ -7,15 +7,26 @@ import seedu.multitasky.model.entry.ReadOnlyEntry;
 /**
  * DeadlineCard inherits from EntryCard which allows it to use its own .fxml
  * configuration file, allowing it to have its own separate colour and layout scheme.
+ * Deadlines that are over are shown as overdue, in a different colour.
  */
 public class DeadlineCard extends EntryCard {
     private static final String FXML = "DeadlineCard.fxml";
 
-    public DeadlineCard(ReadOnlyEntry entry, int displayedIndex) {
-        super(FXML, entry, displayedIndex);
+    public DeadlineCard() {
+        super(FXML);
+    }
+
+    @Override
+    protected void initAll(ReadOnlyEntry entry, int displayedIndex) {
         assert entry instanceof Deadline : "Entry to display on DeadlineListCard must be Deadline";
+        super.initAll(entry, displayedIndex);
 
         endDateTime.setText(entry.getEndDateAndTimeString());
         additionalInfo.setText(prettyTimeFormatDate(entry.getEndDateAndTime().getTime()));
     }
+
+    @Override
+    protected boolean isOverdue(ReadOnlyEntry entry, long nowMillis) {
+        return nowMillis > entry.getEndDateAndTime().getTimeInMillis();
+    }
 }
@@ -1,7 +1,10 @@
 package seedu.multitasky.ui;
 
-import java.util.Calendar;
-import java.util.GregorianCalendar;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import com.google.common.eventbus.Subscribe;
 
 import javafx.application.Platform;
 import javafx.collections.ObservableList;
@@ -9,6 +12,8 @@ import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import seedu.multitasky.commons.core.Delivery;
+import seedu.multitasky.commons.events.model.EntryOverdueEvent;
 import seedu.multitasky.model.entry.ReadOnlyEntry;
 
 //@@author A0125586X
@@ -20,10 +25,13 @@ public class DeadlineListPanel extends UiPart<Region> {
 
     @FXML
     private ListView<ReadOnlyEntry> deadlineListView;
+    /** The cells showing an entry, which are dropped when the list view discards them. */
+    private final Set<DeadlineListViewCell> boundCells = Collections.newSetFromMap(new WeakHashMap<>());
 
     public DeadlineListPanel(ObservableList<ReadOnlyEntry> deadlineList) {
         super(FXML);
         setConnections(deadlineList);
+        registerAsAnEventHandler(this);
     }
 
     private void setConnections(ObservableList<ReadOnlyEntry> deadlineList) {
@@ -38,26 +46,42 @@ public class DeadlineListPanel extends UiPart<Region> {
         });
     }
 
+    /**
+     * Shows the entry that has become overdue as overdue, if it is on one of the cells, without updating the
+     * other cells.
+     */
+    @Subscribe
+    @Delivery(Delivery.Mode.FX_THREAD)
+    private void handleEntryOverdueEvent(EntryOverdueEvent event) {
+        for (DeadlineListViewCell cell : boundCells) {
+            if (event.entry.equals(cell.getItem())) {
+                cell.card.setOverdue(true);
+            }
+        }
+    }
+
+    /**
+     * A cell that shows its entries on one DeadlineCard, which is loaded once and bound to each entry in turn.
+     */
     class DeadlineListViewCell extends ListCell<ReadOnlyEntry> {
 
+        private final DeadlineCard card = new DeadlineCard();
+
         @Override
         protected void updateItem(ReadOnlyEntry entry, boolean empty) {
             super.updateItem(entry, empty);
 
             if (empty || entry == null) {
+                boundCells.remove(this);
                 setGraphic(null);
                 setText(null);
             } else {
+                boundCells.add(this);
                 int index = getIndex() + 1;
                 assert index > 0 : "getIndex returned invalid index";
 
-                Calendar current = new GregorianCalendar();
-                // Deadline is over
-                if (current.compareTo(entry.getEndDateAndTime()) > 0) {
-                    setGraphic(new DeadlineOverdueCard(entry, index).getRoot());
-                } else {
-                    setGraphic(new DeadlineCard(entry, index).getRoot());
-                }
+                card.bind(entry, index);
+                setGraphic(card.getRoot());
             }
         }
     }
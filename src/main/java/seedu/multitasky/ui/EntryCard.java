@@ -1,9 +1,11 @@
 package seedu.multitasky.ui;
 
 import java.util.Date;
+import java.util.stream.Collectors;
 
 import org.ocpsoft.prettytime.PrettyTime;
 
+import javafx.css.PseudoClass;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -16,9 +18,14 @@ import seedu.multitasky.model.entry.ReadOnlyEntry;
  * EntryCard implements a superclass for the different types of entry cards to inherit from.
  * This class is declared as abstract as the classes for each type of entry card
  * should be instantiated instead of a generic entry card.
+ * A card is loaded from its .fxml file once, and is then bound to each entry it shows with
+ * {@link #bind(ReadOnlyEntry, int)}, so that a list cell can keep one card for all the entries it shows.
  */
 public abstract class EntryCard extends UiPart<Region> {
 
+    /** Set on the root of the card while the entry it shows is overdue, to style the card through CSS. */
+    public static final PseudoClass OVERDUE_PSEUDO_CLASS = PseudoClass.getPseudoClass("overdue");
+
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
      * As a consequence, UI elements' variable names cannot be set to such keywords
@@ -44,12 +51,27 @@ public abstract class EntryCard extends UiPart<Region> {
 
     protected PrettyTime prettyTime;
 
-    public EntryCard(String fxml, ReadOnlyEntry entry, int displayedIndex) {
+    public EntryCard(String fxml) {
         super(fxml);
-        initAll(entry, displayedIndex);
         prettyTime = new PrettyTime();
     }
 
+    /**
+     * Shows {@code entry} as the entry numbered {@code displayedIndex} in its list, replacing the entry shown
+     * before. Whether it is overdue is told by the clock of the UI, which the model also uses.
+     */
+    public void bind(ReadOnlyEntry entry, int displayedIndex) {
+        initAll(entry, displayedIndex);
+        setOverdue(isOverdue(entry, StatusBarFooter.getClock().millis()));
+    }
+
+    /**
+     * Shows the entry on this card as overdue or not.
+     */
+    public void setOverdue(boolean isOverdue) {
+        getRoot().pseudoClassStateChanged(OVERDUE_PSEUDO_CLASS, isOverdue);
+    }
+
     protected void initAll(ReadOnlyEntry entry, int displayedIndex) {
         initNameId(entry, displayedIndex);
         initTags(entry);
@@ -61,7 +83,15 @@ public abstract class EntryCard extends UiPart<Region> {
     }
 
     protected void initTags(ReadOnlyEntry entry) {
-        entry.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        tags.getChildren().setAll(entry.getTags().stream().map(tag -> new Label(tag.tagName))
+                                       .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns true if {@code entry} should be shown as overdue at {@code nowMillis}.
+     */
+    protected boolean isOverdue(ReadOnlyEntry entry, long nowMillis) {
+        return false;
     }
 
     protected String prettyTimeFormatDate(Date date) {
@@ -7,16 +7,27 @@ import seedu.multitasky.model.entry.ReadOnlyEntry;
 /**
  * EventCard inherits from EntryCard which allows it to use its own .fxml
  * configuration file, allowing it to have its own separate colour and layout scheme.
+ * Events that have already started are shown as overdue, in a different colour.
  */
 public class EventCard extends EntryCard {
     private static final String FXML = "EventCard.fxml";
 
-    public EventCard(ReadOnlyEntry entry, int displayedIndex) {
-        super(FXML, entry, displayedIndex);
+    public EventCard() {
+        super(FXML);
+    }
+
+    @Override
+    protected void initAll(ReadOnlyEntry entry, int displayedIndex) {
         assert entry instanceof Event : "Entry to display on EventListCard must be Event";
+        super.initAll(entry, displayedIndex);
 
         startDateTime.setText(entry.getStartDateAndTimeString());
         endDateTime.setText(entry.getEndDateAndTimeString());
         additionalInfo.setText(prettyTimeFormatDate(entry.getStartDateAndTime().getTime()));
     }
+
+    @Override
+    protected boolean isOverdue(ReadOnlyEntry entry, long nowMillis) {
+        return nowMillis > entry.getStartDateAndTime().getTimeInMillis();
+    }
 }
@@ -11,8 +11,13 @@ import seedu.multitasky.model.entry.ReadOnlyEntry;
 public class FloatingTaskCard extends EntryCard {
     private static final String FXML = "FloatingTaskCard.fxml";
 
-    public FloatingTaskCard(ReadOnlyEntry entry, int displayedIndex) {
-        super(FXML, entry, displayedIndex);
+    public FloatingTaskCard() {
+        super(FXML);
+    }
+
+    @Override
+    protected void initAll(ReadOnlyEntry entry, int displayedIndex) {
         assert entry instanceof FloatingTask : "Entry to display on FloatingTaskCard must be FloatingTask";
+        super.initAll(entry, displayedIndex);
     }
 }
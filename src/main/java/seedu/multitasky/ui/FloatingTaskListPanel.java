@@ -35,8 +35,13 @@ public class FloatingTaskListPanel extends UiPart<Region> {
         });
     }
 
+    /**
+     * A cell that shows its entries on one FloatingTaskCard, which is loaded once and bound to each entry in turn.
+     */
     class FloatingTaskListViewCell extends ListCell<ReadOnlyEntry> {
 
+        private final FloatingTaskCard card = new FloatingTaskCard();
+
         @Override
         protected void updateItem(ReadOnlyEntry entry, boolean empty) {
             super.updateItem(entry, empty);
@@ -45,7 +50,8 @@ public class FloatingTaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new FloatingTaskCard(entry, getIndex() + 1).getRoot());
+                card.bind(entry, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
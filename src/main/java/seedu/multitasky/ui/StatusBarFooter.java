@@ -10,10 +10,10 @@ import com.google.common.eventbus.Subscribe;
 
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
+import seedu.multitasky.commons.core.Delivery;
 import seedu.multitasky.commons.core.LogsCenter;
 import seedu.multitasky.commons.events.model.EntryBookChangedEvent;
-import seedu.multitasky.commons.events.storage.EntryBookToRedoEvent;
-import seedu.multitasky.commons.events.storage.EntryBookToUndoEvent;
+import seedu.multitasky.commons.events.storage.EntryBookSaveStatusChangedEvent;
 import seedu.multitasky.commons.events.storage.FilePathChangedEvent;
 
 /**
@@ -23,6 +23,9 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SAVE_STATUS_INITIAL = "Not saved yet in this session";
+    public static final String SAVE_STATUS_SAVED = "Saved version %d";
+    public static final String SAVE_STATUS_PENDING = "Saving %d change(s), saved version %d";
 
     private static Clock clock = Clock.systemDefaultZone();
 
@@ -33,11 +36,14 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private StatusBar syncStatus;
     @FXML
+    private StatusBar saveStatus;
+    @FXML
     private StatusBar saveLocationStatus;
 
     public StatusBarFooter(String saveLocation) {
         super(FXML);
         setSyncStatus(SYNC_STATUS_INITIAL);
+        setSaveStatus(SAVE_STATUS_INITIAL);
         setSaveLocation(saveLocation);
         registerAsAnEventHandler(this);
     }
@@ -70,37 +76,37 @@ public class StatusBarFooter extends UiPart<Region> {
         this.syncStatus.setText(status);
     }
 
-    @Subscribe
-    public void handleEntryBookChangedEvent(EntryBookChangedEvent event) {
-        long now = clock.millis();
-        String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Setting last updated status to " + lastUpdated));
-        setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
-    }
-
-    // @@author A0132788U
     /**
-     * Change the status bar for Undo event
+     * Sets the displayed status of the saves made in the background
      */
+    private void setSaveStatus(String status) {
+        this.saveStatus.setText(status);
+    }
+
     @Subscribe
-    public void handleEntryBookToUndoEvent(EntryBookToUndoEvent event) {
+    public void handleEntryBookChangedEvent(EntryBookChangedEvent event) {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Undo " + lastUpdated));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event,
+                                                                "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
 
     /**
-     * Change the status bar for Redo event
+     * Shows the number of changes waiting to be saved and the last version saved.
+     * Saves are reported from the storage writer thread, so the status bar is updated on the JavaFX thread.
      */
     @Subscribe
-    public void handleEntryBookToRedoEvent(EntryBookToRedoEvent event) {
-        long now = clock.millis();
-        String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Redo " + lastUpdated));
-        setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
+    @Delivery(Delivery.Mode.FX_THREAD)
+    public void handleEntryBookSaveStatusChangedEvent(EntryBookSaveStatusChangedEvent event) {
+        logger.fine(() -> LogsCenter.getEventHandlingLogMessage(event, "Updating save status"));
+        String status = event.pendingVersions == 0
+                        ? String.format(SAVE_STATUS_SAVED, event.lastSavedVersion)
+                        : String.format(SAVE_STATUS_PENDING, event.pendingVersions, event.lastSavedVersion);
+        setSaveStatus(status);
     }
 
+    // @@author A0132788U
     /**
      * Change the status bar for filepath change
      */
@@ -12,6 +12,7 @@ import javafx.stage.Stage;
 import seedu.multitasky.MainApp;
 import seedu.multitasky.commons.core.ComponentManager;
 import seedu.multitasky.commons.core.Config;
+import seedu.multitasky.commons.core.Delivery;
 import seedu.multitasky.commons.core.LogsCenter;
 import seedu.multitasky.commons.events.storage.DataSavingExceptionEvent;
 import seedu.multitasky.commons.events.ui.ShowHelpRequestEvent;
@@ -100,7 +101,11 @@ public class UiManager extends ComponentManager implements Ui {
 
     //==================== Event Handling Code ===============================================================
 
+    /**
+     * Shows the error on the JavaFX application thread, as data is saved on a background thread.
+     */
     @Subscribe
+    @Delivery(Delivery.Mode.FX_THREAD)
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         showFileOperationAlertAndWait("Could not save data", "Could not save data to file", event.exception);
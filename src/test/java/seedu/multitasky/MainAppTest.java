@@ -11,8 +11,6 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.multitasky.commons.events.model.EntryBookChangedEvent;
-import seedu.multitasky.commons.events.storage.EntryBookToRedoEvent;
-import seedu.multitasky.commons.events.storage.EntryBookToUndoEvent;
 import seedu.multitasky.commons.events.storage.FilePathChangedEvent;
 import seedu.multitasky.commons.events.storage.LoadDataFromFilePathEvent;
 import seedu.multitasky.commons.exceptions.DataConversionException;
@@ -135,13 +133,8 @@ public class MainAppTest extends MainApp {
         }
 
         @Override
-        public void handleEntryBookToUndoEvent(EntryBookToUndoEvent e) throws Exception {
-            fail("This method should not be called");
-        }
+        public void flushPendingSaves() {
 
-        @Override
-        public void handleEntryBookToRedoEvent(EntryBookToRedoEvent e) throws Exception {
-            fail("This method should not be called");
         }
 
         @Override
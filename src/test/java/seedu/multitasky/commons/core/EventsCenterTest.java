@@ -0,0 +1,139 @@
+package seedu.multitasky.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.multitasky.commons.events.BaseEvent;
+
+public class EventsCenterTest {
+
+    private static final String EXECUTOR = "test";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private EventsCenter eventsCenter;
+
+    @Before
+    public void setUp() {
+        EventsCenter.clearSubscribers();
+        eventsCenter = EventsCenter.getInstance();
+    }
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_subscriberPostsEvent_deliveredToAllAfterCurrentEvent() {
+        List<Integer> received = new ArrayList<>();
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handle(NumberEvent event) {
+                received.add(event.number);
+                if (event.number == 1) {
+                    eventsCenter.post(new NumberEvent(2));
+                }
+            }
+        });
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handle(BaseEvent event) {
+                received.add(-((NumberEvent) event).number);
+            }
+        });
+
+        eventsCenter.post(new NumberEvent(1));
+        assertEquals(Arrays.asList(1, -1, 2, -2), received);
+    }
+
+    @Test
+    public void post_asyncSubscriber_deliveredInOrderOnExecutor() {
+        AsyncSubscriber subscriber = new AsyncSubscriber();
+        eventsCenter.registerHandler(subscriber);
+        for (int i = 0; i < 1000; ++i) {
+            eventsCenter.post(new NumberEvent(i));
+        }
+        eventsCenter.awaitDelivery(EXECUTOR);
+
+        assertEquals(IntStream.range(0, 1000).boxed().collect(Collectors.toList()), subscriber.received);
+        assertNotSame(Thread.currentThread(), subscriber.lastThread);
+    }
+
+    @Test
+    public void post_slowAsyncSubscriber_returnsBeforeDelivery() {
+        AsyncSubscriber subscriber = new AsyncSubscriber();
+        subscriber.blocker = new CountDownLatch(1);
+        eventsCenter.registerHandler(subscriber);
+
+        eventsCenter.post(new NumberEvent(1));
+        eventsCenter.post(new NumberEvent(2));
+        assertTrue(subscriber.received.isEmpty());
+
+        subscriber.blocker.countDown();
+        eventsCenter.awaitDelivery(EXECUTOR);
+        assertEquals(Arrays.asList(1, 2), subscriber.received);
+    }
+
+    @Test
+    public void registerHandler_asyncWithoutExecutor_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            @Delivery(Delivery.Mode.ASYNC)
+            public void handle(NumberEvent event) {
+            }
+        });
+    }
+
+    /**
+     * Records the events it receives on the test executor, after waiting for {@link #blocker} if there is one.
+     */
+    private static class AsyncSubscriber {
+        private final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        private volatile Thread lastThread;
+        private volatile CountDownLatch blocker;
+
+        @Subscribe
+        @Delivery(value = Delivery.Mode.ASYNC, executor = EXECUTOR)
+        public void handle(NumberEvent event) throws InterruptedException {
+            if (blocker != null) {
+                blocker.await();
+            }
+            lastThread = Thread.currentThread();
+            received.add(event.number);
+        }
+    }
+
+    private static class NumberEvent extends BaseEvent {
+        private final int number;
+
+        NumberEvent(int number) {
+            this.number = number;
+        }
+
+        @Override
+        public String toString() {
+            return "number " + number;
+        }
+    }
+
+}
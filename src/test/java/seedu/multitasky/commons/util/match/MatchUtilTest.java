@@ -1,5 +1,6 @@
 package seedu.multitasky.commons.util.match;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -64,4 +65,19 @@ public class MatchUtilTest {
         assertTrue(MatchUtil.filterMatches(matches).equals("abc"));
     }
 
+    @Test
+    public void matchUtil_isWrongExtraMatch_wildcardsNotMatchingWhitespace() {
+        assertTrue(MatchUtil.isWrongExtraMatch("abdc", "abcxyz", 1));
+        assertTrue(MatchUtil.isWrongExtraMatch("ab cd", "xab cdx", 1));
+        assertFalse(MatchUtil.isWrongExtraMatch("abcd", "ab cd", 1));
+        assertFalse(MatchUtil.isWrongExtraMatch("abcd", "x abcd", 1));
+    }
+
+    @Test
+    public void matchUtil_isWrongExtraMatchExtraWildcards_match() {
+        assertTrue(MatchUtil.isWrongExtraMatch("abcdefg", "abcdefg", 3));
+        assertFalse(MatchUtil.isWrongExtraMatch("abcdefg", "abxxxxg", 3));
+        assertTrue(MatchUtil.isWrongExtraMatch("abcdefg", "abxxxxg", 4));
+    }
+
 }
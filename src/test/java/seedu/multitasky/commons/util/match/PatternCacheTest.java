@@ -0,0 +1,30 @@
+package seedu.multitasky.commons.util.match;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+public class PatternCacheTest {
+
+    @Test
+    public void get_sameRegex_compiledOnce() {
+        Pattern pattern = PatternCache.get("abc" + MatchUtil.REGEX_PRESENT_NON_WHITESPACE);
+        assertSame(pattern, PatternCache.get("abc" + MatchUtil.REGEX_PRESENT_NON_WHITESPACE));
+        assertTrue(pattern.matcher("abcxyz").matches());
+    }
+
+    @Test
+    public void get_moreRegexesThanMaxSize_leastRecentlyUsedEvicted() {
+        Pattern first = PatternCache.get("first");
+        for (int i = 0; i < PatternCache.MAX_SIZE; ++i) {
+            PatternCache.get("regex" + i);
+        }
+        assertTrue(PatternCache.size() <= PatternCache.MAX_SIZE);
+        assertNotSame(first, PatternCache.get("first"));
+    }
+
+}
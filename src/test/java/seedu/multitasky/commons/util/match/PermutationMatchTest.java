@@ -0,0 +1,38 @@
+package seedu.multitasky.commons.util.match;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PermutationMatchTest {
+
+    @Test
+    public void permutationMatch_matchNullInput_null() {
+        assertTrue(new PermutationMatch().match(null, "abc", "xyz") == null);
+        assertTrue(new PermutationMatch().match("abc") == null);
+        assertFalse(new PermutationMatch().isMatch(null, "abc"));
+        assertFalse(new PermutationMatch().isMatch("abc", null));
+    }
+
+    @Test
+    public void permutationMatch_matchNone_null() {
+        assertTrue(new PermutationMatch().match("123", "abc") == null);
+        assertFalse(new PermutationMatch().isMatch("aab", "xabbx"));
+        assertFalse(new PermutationMatch().isMatch("abc", "xb acx"));
+    }
+
+    @Test
+    public void permutationMatch_matchPermutation_match() {
+        assertTrue(new PermutationMatch().match("cab", "xyz", "xyabcxy").equals("xyabcxy"));
+        assertTrue(new PermutationMatch().isMatch("aab", "xbaax"));
+        assertTrue(new PermutationMatch().isMatch("c b", "xb cx"));
+    }
+
+    @Test
+    public void permutationMatch_matchLongInput_match() {
+        assertTrue(new PermutationMatch().isMatch("tnemngissa", "submitassignment"));
+        assertFalse(new PermutationMatch().isMatch("tnemngissaa", "submitassignment"));
+    }
+
+}
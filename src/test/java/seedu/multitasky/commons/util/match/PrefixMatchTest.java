@@ -28,4 +28,10 @@ public class PrefixMatchTest {
         assertTrue(new PrefixMatch().isMatch("abc", "abcxyz"));
     }
 
+    @Test
+    public void prefixMatch_noCharactersAfterInput_noMatch() {
+        assertFalse(new PrefixMatch().isMatch("abc", "abc"));
+        assertFalse(new PrefixMatch().isMatch("abc", "abc xyz"));
+    }
+
 }
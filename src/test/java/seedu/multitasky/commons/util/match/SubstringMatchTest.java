@@ -28,4 +28,18 @@ public class SubstringMatchTest {
         assertTrue(new SubstringMatch().isMatch("abc", "xyabcxy"));
     }
 
+    @Test
+    public void substringMatch_whitespaceOutsideInput_noMatch() {
+        assertFalse(new SubstringMatch().isMatch("abc", "xy abc"));
+        assertFalse(new SubstringMatch().isMatch("abc", "abc xy"));
+        assertTrue(new SubstringMatch().isMatch("c x", "abc xy"));
+        assertFalse(new SubstringMatch().isMatch("ab", "xab yab"));
+    }
+
+    @Test
+    public void substringMatch_regexCharactersInInput_matchedLiterally() {
+        assertTrue(new SubstringMatch().isMatch("c++", "learnc++"));
+        assertFalse(new SubstringMatch().isMatch("a.c", "xyabcxy"));
+    }
+
 }
@@ -34,4 +34,11 @@ public class WrongExtra1MatchTest {
         assertTrue(new WrongExtra1Match().isMatch("abdc", "abcxyz"));
     }
 
+    @Test
+    public void wrongExtra1Match_matchMultipleWrongExtra1_firstSingleMatch() {
+        // Only "xbcd" matches with the first character wrong, which is tried first.
+        assertTrue(new WrongExtra1Match().match("abcd", "abcx", "xbcd").equals("xbcd"));
+        assertTrue(new WrongExtra1Match().match("abcd", "xbcd", "ybcd") == null);
+    }
+
 }
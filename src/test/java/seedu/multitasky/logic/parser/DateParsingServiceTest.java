@@ -0,0 +1,57 @@
+package seedu.multitasky.logic.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+import org.ocpsoft.prettytime.nlp.PrettyTimeParser;
+
+import seedu.multitasky.testutil.MutableClock;
+
+public class DateParsingServiceTest {
+
+    private final DateParsingService service = new DateParsingService(Clock.systemDefaultZone());
+
+    @Test
+    public void parse_fixedFormats_sameAsPrettyTime() {
+        PrettyTimeParser prettyTimeParser = new PrettyTimeParser();
+        String[] dates = { "12/05/2030 10:00", "12/5/2030 7:05", "12/1/17 18:30:00", "1/1/30 0:00",
+                           "2030-12-5 23:59", " 12/05/2030  10:00 ", "12/05/2030 10:00 to 12/04/2030 11:30",
+                           "02/30/2030 10:00", "12/05/2030 10:00 to 11:00" };
+        for (String date : dates) {
+            assertEquals(date, prettyTimeParser.parse(date), service.parse(date));
+        }
+    }
+
+    @Test
+    public void parse_twoDigitYear_closestCentury() {
+        ZoneId zone = ZoneId.systemDefault();
+        Clock clock = Clock.fixed(LocalDateTime.of(2026, 10, 18, 12, 0).atZone(zone).toInstant(), zone);
+        DateParsingService fixedService = new DateParsingService(clock);
+        assertEquals(toDate(LocalDateTime.of(2046, 12, 1, 10, 0), zone), fixedService.parse("12/1/46 10:00").get(0));
+        assertEquals(toDate(LocalDateTime.of(1947, 12, 1, 10, 0), zone), fixedService.parse("12/1/47 10:00").get(0));
+    }
+
+    @Test
+    public void parse_relativePhrase_rememberedUntilMinuteChanges() throws Exception {
+        MutableClock clock = new MutableClock();
+        DateParsingService clockedService = new DateParsingService(clock);
+        List<Date> first = clockedService.parse("now");
+        Thread.sleep(5);
+        assertEquals(first, clockedService.parse("now"));
+
+        clock.advanceMinutes(1);
+        assertNotEquals(first, clockedService.parse("now"));
+    }
+
+    private static Date toDate(LocalDateTime dateTime, ZoneId zone) {
+        return Date.from(dateTime.atZone(zone).toInstant());
+    }
+
+}
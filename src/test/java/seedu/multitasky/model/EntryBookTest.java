@@ -1,5 +1,6 @@
 package seedu.multitasky.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -26,8 +27,10 @@ import seedu.multitasky.model.entry.exceptions.EntryNotFoundException;
 import seedu.multitasky.model.entry.exceptions.EntryOverdueException;
 import seedu.multitasky.model.entry.exceptions.OverlappingAndOverdueEventException;
 import seedu.multitasky.model.entry.exceptions.OverlappingEventException;
+import seedu.multitasky.model.entry.util.Comparators;
 import seedu.multitasky.model.util.EntryBuilder;
 import seedu.multitasky.testutil.SampleEntries;
+import seedu.multitasky.testutil.SyntheticEntryBookBuilder;
 
 // @@author A0126623L
 public class EntryBookTest {
@@ -198,6 +201,43 @@ public class EntryBookTest {
         }
     }
 
+    @Test
+    public void getSnapshot_entryBookChangedAfterwards_snapshotUnchanged() throws Exception {
+        EntryBook entryBookUnderTest = EntryBookTest.getSampleEntryBook();
+        EntryBook expectedEntryBook = new EntryBook(entryBookUnderTest);
+        ReadOnlyEntryBook snapshot = entryBookUnderTest.getSnapshot();
+        assertTrue(expectedEntryBook.equals(new EntryBook(snapshot)));
+
+        ReadOnlyEntry floatingTaskToEdit = entryBookUnderTest.getFloatingTaskList().get(0);
+        Entry editedFloatingTask = EntryBuilder.build(floatingTaskToEdit);
+        editedFloatingTask.setName(new Name("modifiedName"));
+        entryBookUnderTest.updateEntry(floatingTaskToEdit, editedFloatingTask);
+        entryBookUnderTest.changeEntryState(entryBookUnderTest.getFloatingTaskList().get(1), Entry.State.ARCHIVED);
+        entryBookUnderTest.removeEntry(entryBookUnderTest.getDeadlineList().get(0));
+
+        assertTrue(new EntryBook(entryBookUnderTest).equals(new EntryBook(entryBookUnderTest.getSnapshot())));
+        assertTrue(entryBookUnderTest.equals(new EntryBook(entryBookUnderTest.getSnapshot())));
+    }
+
+    @Test
+    public void getSnapshot_sortedBeforeAndAfterChange_inSortedOrder() throws Exception {
+        EntryBook entryBookUnderTest = new SyntheticEntryBookBuilder(1).withEntries(60).build();
+        entryBookUnderTest.getSnapshot();
+
+        entryBookUnderTest.setComparators(Comparators.EVENT_REVERSE, Comparators.DEADLINE_REVERSE,
+                                          Comparators.FLOATING_TASK_REVERSE);
+        entryBookUnderTest.removeEntry(entryBookUnderTest.getDeadlineList().get(0));
+        entryBookUnderTest.setComparators(Comparators.EVENT_DEFAULT, Comparators.DEADLINE_DEFAULT,
+                                          Comparators.FLOATING_TASK_DEFAULT);
+        entryBookUnderTest.setComparators(Comparators.EVENT_REVERSE, Comparators.DEADLINE_REVERSE,
+                                          Comparators.FLOATING_TASK_REVERSE);
+
+        ReadOnlyEntryBook snapshot = entryBookUnderTest.getSnapshot();
+        assertEquals(entryBookUnderTest.getEventList(), snapshot.getEventList());
+        assertEquals(entryBookUnderTest.getDeadlineList(), snapshot.getDeadlineList());
+        assertEquals(entryBookUnderTest.getFloatingTaskList(), snapshot.getFloatingTaskList());
+    }
+
     @Test(expected = OverlappingAndOverdueEventException.class)
     public void updateEntryTest_validEditedOverlappingAndOverdueEvent_success()
             throws OverlappingAndOverdueEventException {
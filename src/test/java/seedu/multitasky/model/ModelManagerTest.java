@@ -0,0 +1,274 @@
+package seedu.multitasky.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.multitasky.commons.events.model.BulkClearedEvent;
+import seedu.multitasky.commons.events.model.EntryAddedEvent;
+import seedu.multitasky.commons.events.model.EntryBookChangedEvent;
+import seedu.multitasky.commons.events.model.EntryChangeEvent;
+import seedu.multitasky.commons.events.model.EntryOverdueEvent;
+import seedu.multitasky.commons.events.model.EntryRemovedEvent;
+import seedu.multitasky.commons.events.model.EntryStateChangedEvent;
+import seedu.multitasky.commons.events.model.EntryUpdatedEvent;
+import seedu.multitasky.model.Model.Search;
+import seedu.multitasky.model.entry.Entry;
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+import seedu.multitasky.model.entry.exceptions.DuplicateEntryException;
+import seedu.multitasky.model.entry.exceptions.EntryOverdueException;
+import seedu.multitasky.model.util.EntryBuilder;
+import seedu.multitasky.storage.exception.NothingToUndoException;
+import seedu.multitasky.testutil.EventsCollector;
+import seedu.multitasky.testutil.MutableClock;
+import seedu.multitasky.testutil.SyntheticEntryBookBuilder;
+
+public class ModelManagerTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private ModelManager modelManager;
+
+    @Before
+    public void setUp() throws Exception {
+        modelManager = new ModelManager();
+        modelManager.addEntry(EntryBuilder.build("assignment"));
+        modelManager.addEntry(EntryBuilder.build("sign up"));
+        modelManager.addEntry(EntryBuilder.build("buy groceries"));
+    }
+
+    @Test
+    public void updateAllFilteredLists_powerSearch_onlyLowestLevelMatchesShown() throws Exception {
+        // "sign" is a substring of both "assignment" and "signup", which is the lowest level.
+        modelManager.updateAllFilteredLists(new HashSet<>(Arrays.asList("sign")), null, null,
+                                            Entry.State.ACTIVE, Search.POWER_AND);
+        assertEquals(Arrays.asList(EntryBuilder.build("assignment"), EntryBuilder.build("sign up")),
+                     modelManager.getFilteredFloatingTaskList());
+
+        // "bg" only matches "buy groceries" as an acronym.
+        modelManager.updateAllFilteredLists(new HashSet<>(Arrays.asList("bg")), null, null,
+                                            Entry.State.ACTIVE, Search.POWER_AND);
+        assertEquals(Collections.singletonList(EntryBuilder.build("buy groceries")),
+                     modelManager.getFilteredFloatingTaskList());
+    }
+
+    @Test
+    public void updateAllFilteredLists_entryAddedAfterSearch_evaluatedAgainstSearch() throws Exception {
+        modelManager.updateAllFilteredLists(new HashSet<>(Arrays.asList("buy")), null, null,
+                                            Entry.State.ACTIVE, Model.LENIENT_SEARCHES);
+        modelManager.addEntry(EntryBuilder.build("buy milk"));
+        modelManager.addEntry(EntryBuilder.build("sell milk"));
+
+        assertEquals(Arrays.asList(EntryBuilder.build("buy groceries"), EntryBuilder.build("buy milk")),
+                     modelManager.getFilteredFloatingTaskList());
+    }
+
+    @Test
+    public void updateAllFilteredLists_entryEditedBeforeSearch_foundByNewNameOnly() throws Exception {
+        modelManager.updateEntry(EntryBuilder.build("buy groceries"), EntryBuilder.build("buy vegetables"));
+
+        modelManager.updateAllFilteredLists(new HashSet<>(Arrays.asList("groceries")), null, null,
+                                            Entry.State.ACTIVE, Search.AND);
+        assertEquals(Collections.emptyList(), modelManager.getFilteredFloatingTaskList());
+
+        // Keywords are matched within and across words, and keywords too short to be indexed still match.
+        modelManager.updateAllFilteredLists(new HashSet<>(Arrays.asList("yveg", "u")), null, null,
+                                            Entry.State.ACTIVE, Search.AND);
+        assertEquals(Collections.singletonList(EntryBuilder.build("buy vegetables")),
+                     modelManager.getFilteredFloatingTaskList());
+    }
+
+    @Test
+    public void undoPreviousAction_severalChanges_entryBookRestoredAndRedone() throws Exception {
+        SyntheticEntryBookBuilder builder = new SyntheticEntryBookBuilder(1).withEntries(30).withStates(0.2, 0.2);
+        EntryBook original = builder.build();
+        modelManager = new ModelManager(builder.build(), new UserPrefs());
+        modelManager.addEntry(EntryBuilder.build("new floating task", "newtag"));
+        ReadOnlyEntry deadline = modelManager.getEntryBook().getDeadlineList().get(3);
+        modelManager.changeEntryState(deadline, Entry.State.ARCHIVED);
+        ReadOnlyEntry event = modelManager.getEntryBook().getEventList().get(2);
+        modelManager.updateEntry(event, EntryBuilder.build("event turned floating task", "othertag"));
+        modelManager.deleteEntry(modelManager.getEntryBook().getFloatingTaskList().get(0));
+        modelManager.clearStateSpecificEntries(Entry.State.DELETED);
+        ReadOnlyEntryBook changed = ((EntryBook) modelManager.getEntryBook()).getSnapshot();
+
+        for (int i = 0; i < 5; ++i) {
+            modelManager.undoPreviousAction();
+        }
+        assertSameEntries(original, modelManager.getEntryBook());
+
+        for (int i = 0; i < 5; ++i) {
+            modelManager.redoPreviousAction();
+        }
+        assertSameEntries(changed, modelManager.getEntryBook());
+    }
+
+    @Test
+    public void changeEntries_eachAction_changesRaisedWithIncreasingVersions() throws Exception {
+        EventsCollector collector = new EventsCollector();
+        ReadOnlyEntry groceries = EntryBuilder.build("buy groceries");
+        modelManager.addEntry(EntryBuilder.build("buy milk"));
+        modelManager.changeEntryState(groceries, Entry.State.ARCHIVED);
+        modelManager.updateEntry(EntryBuilder.build("sign up"), EntryBuilder.build("sign up again"));
+        modelManager.deleteEntry(EntryBuilder.build("assignment"));
+        modelManager.undoPreviousAction();
+        modelManager.clearStateSpecificEntries(Entry.State.ARCHIVED);
+
+        List<EntryChangeEvent> changes = collector.getAll(EntryChangeEvent.class);
+        assertEquals(Arrays.asList(EntryAddedEvent.class, EntryStateChangedEvent.class, EntryUpdatedEvent.class,
+                                   EntryRemovedEvent.class, EntryAddedEvent.class, BulkClearedEvent.class),
+                     changes.stream().map(Object::getClass).collect(Collectors.toList()));
+        EntryStateChangedEvent stateChange = (EntryStateChangedEvent) changes.get(1);
+        assertEquals(groceries, stateChange.before);
+        assertEquals(Entry.State.ARCHIVED, stateChange.after.getState());
+        for (int i = 1; i < changes.size(); ++i) {
+            assertEquals(changes.get(i - 1).version + 1, changes.get(i).version);
+        }
+
+        // The coalesced event is raised once for each action, with the version after the action
+        List<EntryBookChangedEvent> coalesced = collector.getAll(EntryBookChangedEvent.class);
+        assertEquals(changes.size(), coalesced.size());
+        assertEquals(changes.get(changes.size() - 1).version, coalesced.get(coalesced.size() - 1).version);
+        BulkClearedEvent cleared = (BulkClearedEvent) changes.get(changes.size() - 1);
+        assertSame(cleared.data, coalesced.get(coalesced.size() - 1).data);
+        assertTrue(cleared.data.getAllEntries().stream().noneMatch(entry -> entry.getState() == Entry.State.ARCHIVED));
+    }
+
+    @Test
+    public void raiseOverdueEntries_deadlinePassed_raisedForThatDeadlineOnly() throws Exception {
+        MutableClock clock = new MutableClock();
+        modelManager = new ModelManager(new EntryBook(), new UserPrefs(), new UndoHistory(10, 1000), clock);
+        Calendar soon = Calendar.getInstance();
+        soon.setTimeInMillis(clock.millis() + 10 * 60000);
+        Calendar later = Calendar.getInstance();
+        later.setTimeInMillis(clock.millis() + 60 * 60000);
+        modelManager.addEntry(EntryBuilder.build("due soon", soon));
+        modelManager.addEntry(EntryBuilder.build("due later", later));
+        EventsCollector collector = new EventsCollector();
+
+        clock.advanceMinutes(15);
+        modelManager.raiseOverdueEntries();
+        List<EntryOverdueEvent> overdue = collector.getAll(EntryOverdueEvent.class);
+        assertEquals(1, overdue.size());
+        assertEquals(EntryBuilder.build("due soon", soon), overdue.get(0).entry);
+        assertTrue(collector.getAll(EntryChangeEvent.class).isEmpty());
+    }
+
+    @Test
+    public void addEntry_deadlinePassedOnModelClock_throwsEntryOverdueException() throws Exception {
+        MutableClock clock = new MutableClock();
+        modelManager = new ModelManager(new EntryBook(), new UserPrefs(), new UndoHistory(10, 1000), clock);
+        Calendar soon = Calendar.getInstance();
+        soon.setTimeInMillis(clock.millis() + 10 * 60000);
+        clock.advanceMinutes(15);
+
+        thrown.expect(EntryOverdueException.class);
+        modelManager.addEntry(EntryBuilder.build("due soon", soon));
+    }
+
+    @Test
+    public void raiseOverdueEntries_deadlineDeletedAgainAfterUndo_notRaised() throws Exception {
+        MutableClock clock = new MutableClock();
+        modelManager = new ModelManager(new EntryBook(), new UserPrefs(), new UndoHistory(10, 1000), clock);
+        Calendar soon = Calendar.getInstance();
+        soon.setTimeInMillis(clock.millis() + 10 * 60000);
+        modelManager.addEntry(EntryBuilder.build("due soon", soon));
+        modelManager.deleteEntry(EntryBuilder.build("due soon", soon));
+        modelManager.undoPreviousAction();
+        modelManager.deleteEntry(EntryBuilder.build("due soon", soon));
+
+        clock.advanceMinutes(15);
+        assertEquals(Collections.emptyList(), modelManager.raiseOverdueEntries());
+    }
+
+    @Test
+    public void updateEntry_typeChangeToDuplicate_nothingRecordedOrRaised() throws Exception {
+        Calendar nextYear = Calendar.getInstance();
+        nextYear.add(Calendar.YEAR, 1);
+        modelManager.addEntry(EntryBuilder.build("report", nextYear));
+        List<ReadOnlyEntry> floatingTasks = Arrays.asList(modelManager.getEntryBook().getFloatingTaskList()
+                                                                   .toArray(new ReadOnlyEntry[0]));
+        EventsCollector collector = new EventsCollector();
+
+        try {
+            modelManager.updateEntry(EntryBuilder.build("sign up"), EntryBuilder.build("report", nextYear));
+            fail("Changing an entry into a duplicate should fail");
+        } catch (DuplicateEntryException e) {
+            // The change is reverted
+        }
+        assertEquals(floatingTasks, modelManager.getEntryBook().getFloatingTaskList());
+        assertTrue(collector.getAll(EntryChangeEvent.class).isEmpty());
+
+        modelManager.deleteEntry(EntryBuilder.build("assignment"));
+        assertEquals(Collections.singletonList(EntryRemovedEvent.class),
+                     collector.getAll(EntryChangeEvent.class).stream().map(Object::getClass)
+                              .collect(Collectors.toList()));
+        modelManager.undoPreviousAction();
+        assertEquals(floatingTasks, modelManager.getEntryBook().getFloatingTaskList());
+        modelManager.undoPreviousAction();
+        assertTrue(modelManager.getEntryBook().getDeadlineList().isEmpty());
+        assertEquals(floatingTasks, modelManager.getEntryBook().getFloatingTaskList());
+    }
+
+    @Test
+    public void undoPreviousAction_nothingChanged_throwsNothingToUndoException() throws Exception {
+        modelManager = new ModelManager();
+        thrown.expect(NothingToUndoException.class);
+        modelManager.undoPreviousAction();
+    }
+
+    @Test
+    public void undoPreviousAction_deletedEntryAddedBackOutsideHistory_historyCleared() throws Exception {
+        // The history of deleting an entry, kept while the entry was added back to the data by hand
+        UndoHistory undoHistory = new UndoHistory(10, 1000);
+        new ModelManager(modelManager.getEntryBook(), new UserPrefs(), undoHistory, Clock.systemDefaultZone())
+                .deleteEntry(EntryBuilder.build("sign up"));
+        modelManager = new ModelManager(modelManager.getEntryBook(), new UserPrefs(), undoHistory,
+                                        Clock.systemDefaultZone());
+        List<ReadOnlyEntry> floatingTasks = Arrays.asList(modelManager.getEntryBook().getFloatingTaskList()
+                                                                   .toArray(new ReadOnlyEntry[0]));
+
+        try {
+            modelManager.undoPreviousAction();
+            fail("Undoing a change that no longer matches the entry book should fail");
+        } catch (NothingToUndoException e) {
+            // The history is cleared instead
+        }
+        assertEquals(floatingTasks, modelManager.getEntryBook().getFloatingTaskList());
+        assertFalse(undoHistory.canUndo());
+    }
+
+    /**
+     * Asserts that both entry books have the same entries in each list and the same tag list, and that their
+     * floating tasks have the same tags.
+     * The order of the list of all entries is not compared, as entries that are brought back are put at its end.
+     */
+    private static void assertSameEntries(ReadOnlyEntryBook expected, ReadOnlyEntryBook actual) {
+        assertEquals(expected.getEventList(), actual.getEventList());
+        assertEquals(expected.getDeadlineList(), actual.getDeadlineList());
+        assertEquals(expected.getFloatingTaskList(), actual.getFloatingTaskList());
+        assertEquals(new HashSet<>(expected.getAllEntries()), new HashSet<>(actual.getAllEntries()));
+        assertEquals(new HashSet<>(expected.getTagList()), new HashSet<>(actual.getTagList()));
+        for (int i = 0; i < expected.getFloatingTaskList().size(); ++i) {
+            assertEquals(expected.getFloatingTaskList().get(i).getTags(),
+                         actual.getFloatingTaskList().get(i).getTags());
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package seedu.multitasky.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.multitasky.model.entry.Entry;
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+import seedu.multitasky.model.util.EntryBuilder;
+import seedu.multitasky.testutil.MutableClock;
+
+public class OverdueSchedulerTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final List<ReadOnlyEntry> reported = new ArrayList<>();
+    private final OverdueScheduler scheduler = new OverdueScheduler(clock, reported::add);
+
+    @Test
+    public void reportOverdueEntries_timePasses_eachEntryReportedOnceInOrder() throws Exception {
+        Entry laterDeadline = EntryBuilder.build("later deadline", minutesFromNow(20));
+        Entry deadline = EntryBuilder.build("deadline", minutesFromNow(10));
+        Entry event = EntryBuilder.build("event", minutesFromNow(30), minutesFromNow(90));
+        Entry archivedDeadline = EntryBuilder.build("archived deadline", minutesFromNow(5));
+        archivedDeadline.setState(Entry.State.ARCHIVED);
+        Entry pastDeadline = EntryBuilder.build("past deadline", minutesFromNow(-10));
+        scheduler.reset(Arrays.asList(laterDeadline, deadline, event, archivedDeadline, pastDeadline,
+                                      EntryBuilder.build("floating task")));
+
+        clock.advanceMinutes(9);
+        assertEquals(Collections.emptyList(), scheduler.reportOverdueEntries());
+
+        clock.advanceMinutes(1);
+        assertEquals(Collections.singletonList(deadline), scheduler.reportOverdueEntries());
+
+        clock.advanceMinutes(25);
+        assertEquals(Arrays.asList(laterDeadline, event), scheduler.reportOverdueEntries());
+        assertEquals(Collections.emptyList(), scheduler.reportOverdueEntries());
+        assertEquals(Arrays.asList(deadline, laterDeadline, event), reported);
+        assertEquals(Long.MAX_VALUE, scheduler.getNextOverdueTimeInMillis());
+    }
+
+    @Test
+    public void apply_entriesChangedBeforeDue_onlyEntriesStillActiveReported() throws Exception {
+        EntryBook entryBook = new EntryBook();
+        entryBook.startRecordingChanges();
+        entryBook.addEntry(EntryBuilder.build("deleted", minutesFromNow(10)));
+        entryBook.addEntry(EntryBuilder.build("archived", minutesFromNow(20)));
+        entryBook.addEntry(EntryBuilder.build("kept", minutesFromNow(30)));
+        scheduler.apply(entryBook.takeDelta());
+
+        entryBook.removeEntry(EntryBuilder.build("deleted", minutesFromNow(10)));
+        entryBook.changeEntryState(EntryBuilder.build("archived", minutesFromNow(20)), Entry.State.ARCHIVED);
+        scheduler.apply(entryBook.takeDelta());
+        assertEquals(minutesFromNow(30).getTimeInMillis() / 60000 * 60000,
+                     scheduler.getNextOverdueTimeInMillis());
+
+        clock.advanceMinutes(40);
+        assertEquals(Collections.singletonList(EntryBuilder.build("kept", minutesFromNow(-10))),
+                     scheduler.reportOverdueEntries());
+    }
+
+    @Test
+    public void apply_entryRemovedAndBroughtBack_reportedOnce() throws Exception {
+        EntryBook entryBook = new EntryBook();
+        entryBook.startRecordingChanges();
+        entryBook.addEntry(EntryBuilder.build("deadline", minutesFromNow(10)));
+        EntryBookDelta added = entryBook.takeDelta();
+        scheduler.apply(added);
+        scheduler.apply(added.inverse());
+        scheduler.apply(added);
+
+        clock.advanceMinutes(15);
+        assertEquals(1, scheduler.reportOverdueEntries().size());
+    }
+
+    @Test
+    public void apply_tagsEditedToEqualEntry_newCopyReported() throws Exception {
+        EntryBook entryBook = new EntryBook();
+        entryBook.startRecordingChanges();
+        entryBook.addEntry(EntryBuilder.build("deadline", minutesFromNow(10), "before"));
+        scheduler.apply(entryBook.takeDelta());
+        ReadOnlyEntry target = entryBook.getDeadlineList().get(0);
+        entryBook.updateEntry(target, EntryBuilder.build("deadline", minutesFromNow(10), "after"));
+        scheduler.apply(entryBook.takeDelta());
+
+        clock.advanceMinutes(15);
+        assertEquals(1, scheduler.reportOverdueEntries().size());
+        assertSame(entryBook.getSnapshot().getDeadlineList().get(0), reported.get(0));
+    }
+
+    /**
+     * Returns the time {@code minutes} minutes after the current time of the test clock.
+     */
+    private Calendar minutesFromNow(int minutes) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(clock.millis() + minutes * 60000L);
+        return calendar;
+    }
+
+}
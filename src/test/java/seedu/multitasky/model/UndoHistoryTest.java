@@ -0,0 +1,89 @@
+package seedu.multitasky.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+import seedu.multitasky.model.util.EntryBuilder;
+import seedu.multitasky.storage.exception.NothingToRedoException;
+import seedu.multitasky.storage.exception.NothingToUndoException;
+
+public class UndoHistoryTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void undo_emptyHistory_throwsNothingToUndoException() throws Exception {
+        thrown.expect(NothingToUndoException.class);
+        new UndoHistory().undo();
+    }
+
+    @Test
+    public void redo_newStepRecorded_throwsNothingToRedoException() throws Exception {
+        UndoHistory history = new UndoHistory();
+        history.record(addition("first"));
+        history.undo();
+        assertTrue(history.canRedo());
+
+        history.record(addition("second"));
+        thrown.expect(NothingToRedoException.class);
+        history.redo();
+    }
+
+    @Test
+    public void undoRedo_stepsRecorded_returnedInOrder() throws Exception {
+        UndoHistory history = new UndoHistory();
+        EntryBookDelta first = addition("first");
+        EntryBookDelta second = addition("second");
+        history.record(first);
+        history.record(new EntryBookDelta(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                                          Collections.emptyList(), null, null));
+        history.record(second);
+
+        assertSame(second, history.undo());
+        assertSame(first, history.undo());
+        assertFalse(history.canUndo());
+        assertSame(first, history.redo());
+        assertSame(second, history.redo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void record_limitsExceeded_oldestStepsDropped() throws Exception {
+        UndoHistory shallowHistory = new UndoHistory(2, 100);
+        shallowHistory.record(addition("first"));
+        shallowHistory.record(addition("second"));
+        shallowHistory.record(addition("third"));
+        assertEquals(2, shallowHistory.getUndoDeltas().size());
+        assertEquals("second", shallowHistory.getUndoDeltas().get(0).getAddedEntries().get(0).getName().fullName);
+
+        UndoHistory smallHistory = new UndoHistory(100, 3);
+        smallHistory.record(addition("first", "second"));
+        smallHistory.record(addition("third", "fourth"));
+        assertEquals(1, smallHistory.getUndoDeltas().size());
+        smallHistory.record(addition("fifth", "sixth", "seventh", "eighth"));
+        assertFalse(smallHistory.canUndo());
+    }
+
+    private static EntryBookDelta addition(String... names) throws Exception {
+        List<ReadOnlyEntry> entries = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        for (String name : names) {
+            indices.add(entries.size());
+            entries.add(EntryBuilder.build(name));
+        }
+        return new EntryBookDelta(Collections.emptyList(), Collections.emptyList(), entries, indices, null, null);
+    }
+
+}
@@ -1,17 +1,26 @@
 package seedu.multitasky.model.entry;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
 import java.util.Objects;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.multitasky.commons.exceptions.IllegalValueException;
+
 import seedu.multitasky.model.entry.exceptions.DuplicateEntryException;
 import seedu.multitasky.model.entry.exceptions.EntryNotFoundException;
 import seedu.multitasky.model.util.EntryBuilder;
+import seedu.multitasky.model.util.TagSetBuilder;
 
 //@@author A0126623L
 public class DeadlineListTest {
@@ -182,4 +191,56 @@ public class DeadlineListTest {
         assertTrue(deadlineListToTest.equals(deadlineList1));
     }
 
+    @Test
+    public void add_unsortedDeadlines_insertedInSortedPosition() throws Exception {
+        Deadline first = buildDeadline("first", 1);
+        Deadline second = buildDeadline("second", 2);
+        Deadline secondAddedLater = buildDeadline("second added later", 2);
+        Deadline third = buildDeadline("third", 3);
+
+        DeadlineList deadlineListUnderTest = new DeadlineList();
+        deadlineListUnderTest.add(second);
+        deadlineListUnderTest.add(third);
+        deadlineListUnderTest.add(first);
+        deadlineListUnderTest.add(secondAddedLater);
+
+        assertEquals(Arrays.asList(first, second, secondAddedLater, third),
+                     deadlineListUnderTest.asObservableList());
+    }
+
+    @Test
+    public void updateEntry_laterDeadline_onlyUpdatedDeadlineMoved() throws Exception {
+        Deadline first = buildDeadline("first", 1);
+        Deadline second = buildDeadline("second", 2);
+        Deadline third = buildDeadline("third", 3);
+        DeadlineList deadlineListUnderTest = DeadlineListTest.getDeadlineList(first, second, third);
+        List<String> changes = new ArrayList<>();
+        deadlineListUnderTest.asObservableList().addListener((ListChangeListener<Entry>) change -> {
+            while (change.next()) {
+                changes.add(change.wasPermutated() ? "permutated"
+                                                   : change.getRemovedSize() + "-" + change.getAddedSize());
+            }
+        });
+
+        deadlineListUnderTest.updateEntry(first, buildDeadline("fourth", 4));
+        assertEquals(Arrays.asList(second, third, buildDeadline("fourth", 4)),
+                     deadlineListUnderTest.asObservableList());
+        assertEquals(Arrays.asList("1-0", "0-1"), changes); // moved by a single removal and insertion
+        changes.clear();
+
+        deadlineListUnderTest.updateEntry(second, buildDeadline("second renamed", 2));
+        assertEquals(Arrays.asList(buildDeadline("second renamed", 2), third, buildDeadline("fourth", 4)),
+                     deadlineListUnderTest.asObservableList());
+        assertEquals(Arrays.asList("1-1"), changes); // replaced in place
+    }
+
+    /**
+     * Builds a deadline due on the given day of July 2017.
+     */
+    private static Deadline buildDeadline(String name, int dayOfJuly) throws IllegalValueException {
+        Calendar endDateAndTime = Calendar.getInstance();
+        endDateAndTime.set(2017, 6, dayOfJuly, 18, 30);
+        return new Deadline(new Name(name), endDateAndTime, TagSetBuilder.getTagSet("tag1"));
+    }
+
 }
@@ -1,15 +1,22 @@
 package seedu.multitasky.model.entry;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.multitasky.model.entry.exceptions.DuplicateEntryException;
 import seedu.multitasky.model.entry.exceptions.EntryNotFoundException;
 import seedu.multitasky.model.util.EntryBuilder;
@@ -182,6 +189,28 @@ public class EventListTest {
         assertTrue(eventListToTest.equals(eventList1));
     }
 
+    @Test
+    public void setEntries_unsortedEvents_sortedInSingleChange() throws DuplicateEntryException {
+        EventList eventListUnderTest = new EventList();
+        List<Entry> sortedEvents = new ArrayList<>(eventList3.asObservableList());
+        List<Entry> unsortedEvents = new ArrayList<>(sortedEvents);
+        Collections.reverse(unsortedEvents);
+        int[] changeCount = { 0 };
+        eventListUnderTest.asObservableList().addListener((ListChangeListener<Entry>) change -> changeCount[0]++);
+
+        eventListUnderTest.setEntries(unsortedEvents);
+
+        assertEquals(sortedEvents, eventListUnderTest.asObservableList());
+        assertEquals(1, changeCount[0]);
+        assertTrue(eventListUnderTest.hasOverlappingEvent(sampleEventArray[0]));
+    }
+
+    @Test(expected = DuplicateEntryException.class)
+    public void setEntries_duplicateEvents_throwDuplicateEntryException() throws DuplicateEntryException {
+        EventList eventListUnderTest = new EventList();
+        eventListUnderTest.setEntries(Arrays.asList(sampleEventArray[0], EntryBuilder.build(sampleEventArray[0])));
+    }
+
     @Test
     public void hasOverlapping_overlappingAndNonOverlappingSampleEvents_success() {
         int offsetAmount = 1000;
@@ -214,4 +243,33 @@ public class EventListTest {
         assertTrue(eventList1.hasOverlappingEventAfterUpdate(eventToManipulate, activatedManipulatedEvent));
     }
 
+    @Test
+    public void hasOverlappingEvent_afterRemovingOverlappingEvents_returnsFalse() throws EntryNotFoundException {
+        EventList eventListUnderTest = EventListTest.copyEventList(eventList1);
+        assertTrue(eventListUnderTest.hasOverlappingEvent(sampleEventArray[4]));
+
+        eventListUnderTest.remove(sampleEventArray[0]);
+        eventListUnderTest.remove(sampleEventArray[2]);
+        assertFalse(eventListUnderTest.hasOverlappingEvent(sampleEventArray[4]));
+    }
+
+    @Test
+    public void hasOverlappingEvent_afterStateChanges_onlyActiveEventsOverlap() throws Exception {
+        EventList eventListUnderTest = EventListTest.copyEventList(eventList3);
+        Calendar start = Calendar.getInstance();
+        start.set(2017, 6, 7, 19, 30); // 7th July 2017, 7:30pm
+        Calendar end = Calendar.getInstance();
+        end.set(2017, 6, 7, 20, 30); // 7th July 2017, 8:30pm
+        Entry eventOverlappingFirstEventOnly = EntryBuilder.build(new Name("SampleName4"), start, end, "tag1");
+        assertTrue(eventListUnderTest.hasOverlappingEvent(eventOverlappingFirstEventOnly));
+
+        eventListUnderTest.changeEntryState(sampleEventArray[0], Entry.State.ARCHIVED);
+        assertFalse(eventListUnderTest.hasOverlappingEvent(eventOverlappingFirstEventOnly));
+
+        Entry archivedEvent = EntryBuilder.build(sampleEventArray[0]);
+        archivedEvent.setState(Entry.State.ARCHIVED);
+        eventListUnderTest.changeEntryState(archivedEvent, Entry.State.ACTIVE);
+        assertTrue(eventListUnderTest.hasOverlappingEvent(eventOverlappingFirstEventOnly));
+    }
+
 }
@@ -113,4 +113,16 @@ public class FloatingTaskTest {
         assertFalse(floatingTask1.equals(floatingTask4));
     }
 
+    @Test
+    public void getSearchKey_nameAndTagsChanged_searchKeyUpdated() throws Exception {
+        FloatingTask floatingTask = new FloatingTask(new Name("Buy  Milk"), TagSetBuilder.getTagSet("Home"));
+        assertEquals("buymilkhome", floatingTask.getSearchKey());
+
+        floatingTask.setName(new Name("Sell Milk"));
+        assertEquals("sellmilkhome", floatingTask.getSearchKey());
+
+        floatingTask.setTags(TagSetBuilder.getTagSet("Shop"));
+        assertEquals("sellmilkshop", floatingTask.getSearchKey());
+    }
+
 }
@@ -60,4 +60,19 @@ public class MiscEntryListTest {
         assertTrue(miscEntryListUnderTest.contains(sampleFloatingTask));
         assertFalse(miscEntryListUnderTest.equals(referenceEntryList));
     }
+
+    @Test
+    public void updateEntry_inListSharingEntries_duplicateCheckIndexKeptInSync() throws Exception {
+        FloatingTaskList floatingTaskList = new FloatingTaskList();
+        MiscEntryList miscEntryListUnderTest = new MiscEntryList();
+        floatingTaskList.shareEntriesWith(miscEntryListUnderTest);
+        Entry floatingTask = EntryBuilder.build("floatingTask");
+        floatingTaskList.add(floatingTask);
+        miscEntryListUnderTest.add(floatingTask);
+
+        floatingTaskList.updateEntry(floatingTask, EntryBuilder.build("renamedFloatingTask"));
+
+        assertTrue(miscEntryListUnderTest.contains(EntryBuilder.build("renamedFloatingTask")));
+        assertFalse(miscEntryListUnderTest.contains(EntryBuilder.build("floatingTask")));
+    }
 }
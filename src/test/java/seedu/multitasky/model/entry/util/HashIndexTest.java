@@ -0,0 +1,76 @@
+package seedu.multitasky.model.entry.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class HashIndexTest {
+
+    @Test
+    public void contains_equalValues_matchedByEquality() {
+        HashIndex<String> index = new HashIndex<>();
+        index.add(new String("a"));
+
+        assertTrue(index.contains("a"));
+        assertFalse(index.contains("b"));
+    }
+
+    @Test
+    public void remove_duplicateValues_removedOneOccurrenceAtATime() {
+        HashIndex<String> index = new HashIndex<>();
+        String first = new String("a");
+        String second = new String("a");
+        index.add(first);
+        index.add(second);
+
+        assertTrue(index.containsOtherThan("a", first));
+        assertTrue(index.remove(first));
+        assertFalse(index.remove(first));
+        assertFalse(index.containsOtherThan("a", second));
+        assertTrue(index.contains("a"));
+        assertTrue(index.remove(second));
+        assertFalse(index.contains("a"));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void reindex_valueChangedInPlace_foundByNewValue() {
+        HashIndex<List<Integer>> index = new HashIndex<>();
+        List<Integer> value = new ArrayList<>();
+        value.add(1);
+        index.add(value);
+
+        value.set(0, 2);
+        index.reindex(value);
+
+        List<Integer> newValue = new ArrayList<>();
+        newValue.add(2);
+        assertTrue(index.contains(newValue));
+        assertTrue(index.remove(value));
+        assertFalse(index.contains(newValue));
+    }
+
+    @Test
+    public void add_manyValues_allFoundAfterResizing() {
+        HashIndex<Integer> index = new HashIndex<>();
+        Integer[] values = new Integer[1000]; // values are tracked by identity
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = Integer.valueOf(i);
+            index.add(values[i]);
+        }
+        for (int i = 0; i < values.length; i += 2) {
+            assertTrue(index.remove(values[i]));
+        }
+
+        for (int i = 0; i < values.length; ++i) {
+            assertEquals(i % 2 == 1, index.contains(i));
+        }
+        assertEquals(values.length / 2, index.size());
+    }
+
+}
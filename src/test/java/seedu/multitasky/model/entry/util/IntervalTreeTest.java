@@ -0,0 +1,93 @@
+package seedu.multitasky.model.entry.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class IntervalTreeTest {
+
+    private IntervalTree<String> tree;
+
+    @Before
+    public void setUp() {
+        tree = new IntervalTree<>();
+        tree.insert("a", 0, 10);
+        tree.insert("b", 5, 15);
+        tree.insert("c", 20, 30);
+    }
+
+    @Test
+    public void getOverlapping_closedIntervals_touchingEndpointsOverlap() {
+        assertEquals(Arrays.asList("a", "b"), tree.getOverlapping(10, 10));
+        assertEquals(Arrays.asList("c"), tree.getOverlapping(30, 40));
+        assertEquals(Collections.emptyList(), tree.getOverlapping(16, 19));
+        assertEquals(Arrays.asList("a", "b", "c"), tree.getOverlapping(-5, 50));
+    }
+
+    @Test
+    public void anyOverlapping_filterRejectsAll_returnsFalse() {
+        assertTrue(tree.anyOverlapping(0, 100, value -> value.equals("c")));
+        assertFalse(tree.anyOverlapping(0, 100, value -> value.equals("d")));
+    }
+
+    @Test
+    public void insert_existingValue_replacesInterval() {
+        tree.insert("a", 100, 110);
+        assertEquals(3, tree.size());
+        assertEquals(Arrays.asList("b"), tree.getOverlapping(0, 5));
+        assertEquals(Arrays.asList("a"), tree.getOverlapping(105, 105));
+    }
+
+    @Test
+    public void remove_existingAndMissingValues_success() {
+        assertTrue(tree.remove("b"));
+        assertFalse(tree.remove("b"));
+        assertFalse(tree.contains("b"));
+        assertEquals(Arrays.asList("a"), tree.getOverlapping(5, 15));
+
+        tree.clear();
+        assertEquals(0, tree.size());
+        assertEquals(Collections.emptyList(), tree.getOverlapping(0, 100));
+    }
+
+    @Test
+    public void getOverlapping_randomIntervals_matchesLinearScan() {
+        Random random = new Random(0);
+        IntervalTree<Integer> randomTree = new IntervalTree<>();
+        long[][] intervals = new long[500][];
+        Integer[] values = new Integer[intervals.length]; // values are tracked by identity
+        for (int i = 0; i < intervals.length; ++i) {
+            long start = random.nextInt(10000);
+            intervals[i] = new long[] { start, start + random.nextInt(200) };
+            values[i] = i;
+            randomTree.insert(values[i], intervals[i][0], intervals[i][1]);
+        }
+        for (int i = 0; i < intervals.length; i += 3) {
+            assertTrue(randomTree.remove(values[i]));
+            intervals[i] = null;
+        }
+
+        for (int query = 0; query < 200; ++query) {
+            long start = random.nextInt(10000);
+            long end = start + random.nextInt(300);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < intervals.length; ++i) {
+                if (intervals[i] != null && intervals[i][0] <= end && intervals[i][1] >= start) {
+                    expected.add(i);
+                }
+            }
+            assertEquals(new HashSet<>(expected), new HashSet<>(randomTree.getOverlapping(start, end)));
+        }
+    }
+
+}
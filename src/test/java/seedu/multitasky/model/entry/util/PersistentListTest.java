@@ -0,0 +1,70 @@
+package seedu.multitasky.model.entry.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void updates_earlierVersions_unchanged() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+        PersistentList<String> inserted = original.insert(1, "x");
+        PersistentList<String> removed = inserted.remove(0);
+        PersistentList<String> set = removed.set(2, "y");
+
+        assertEquals(Arrays.asList("a", "b", "c"), original.toList());
+        assertEquals(Arrays.asList("a", "x", "b", "c"), inserted.toList());
+        assertEquals(Arrays.asList("x", "b", "c"), removed.toList());
+        assertEquals(Arrays.asList("x", "b", "y"), set.toList());
+    }
+
+    @Test
+    public void empty_noElements() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(Collections.emptyList(), PersistentList.empty().toList());
+        assertEquals(Arrays.asList("a"), PersistentList.<String>empty().insert(0, "a").toList());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList.of(Arrays.asList("a")).get(1);
+    }
+
+    @Test
+    public void updates_randomOperations_matchArrayList() {
+        Random random = new Random(0);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 2000; ++i) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation <= 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.insert(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.set(index, i);
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        assertEquals(expected, list.toList());
+        for (int i = 0; i < expected.size(); ++i) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertEquals(expected, PersistentList.of(expected).toList());
+    }
+
+}
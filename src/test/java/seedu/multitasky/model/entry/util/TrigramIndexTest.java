@@ -0,0 +1,92 @@
+package seedu.multitasky.model.entry.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class TrigramIndexTest {
+
+    private TrigramIndex<String> index;
+
+    @Before
+    public void setUp() {
+        index = new TrigramIndex<>();
+        index.put("a", "buymilk");
+        index.put("b", "buybread");
+        index.put("c", "sellmilk");
+    }
+
+    @Test
+    public void getCandidates_substringOfKeys_returnsMatchingValues() {
+        assertEquals(new HashSet<>(Arrays.asList("a", "c")), index.getCandidates("milk"));
+        assertEquals(Collections.singleton("a"), index.getCandidates("ymil"));
+        assertEquals(Collections.emptySet(), index.getCandidates("cheese"));
+    }
+
+    @Test
+    public void getCandidates_substringTooShort_returnsNull() {
+        assertNull(index.getCandidates("mi"));
+    }
+
+    @Test
+    public void put_existingValue_replacesKey() {
+        index.put("a", "buyeggs");
+        assertEquals(3, index.size());
+        assertEquals(Collections.singleton("c"), index.getCandidates("milk"));
+        assertEquals(Collections.singleton("a"), index.getCandidates("eggs"));
+    }
+
+    @Test
+    public void remove_existingAndMissingValues_success() {
+        assertTrue(index.remove("a"));
+        assertFalse(index.remove("a"));
+        assertFalse(index.contains("a"));
+        assertEquals(Collections.singleton("c"), index.getCandidates("milk"));
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(Collections.emptySet(), index.getCandidates("milk"));
+    }
+
+    @Test
+    public void getCandidates_randomKeys_includesEveryMatch() {
+        Random random = new Random(0);
+        TrigramIndex<Integer> randomIndex = new TrigramIndex<>();
+        String[] keys = new String[300];
+        Integer[] values = new Integer[keys.length]; // values are tracked by identity
+        for (int i = 0; i < keys.length; ++i) {
+            keys[i] = randomString(random, 4 + random.nextInt(12));
+            values[i] = i;
+            randomIndex.put(values[i], keys[i]);
+        }
+
+        for (int query = 0; query < 200; ++query) {
+            String substring = randomString(random, 3 + random.nextInt(2));
+            Set<Integer> candidates = randomIndex.getCandidates(substring);
+            for (int i = 0; i < keys.length; ++i) {
+                if (keys[i].contains(substring)) {
+                    assertTrue(candidates.contains(values[i]));
+                }
+            }
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; ++i) {
+            builder.append((char) ('a' + random.nextInt(4)));
+        }
+        return builder.toString();
+    }
+
+}
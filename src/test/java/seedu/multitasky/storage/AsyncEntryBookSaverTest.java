@@ -0,0 +1,92 @@
+package seedu.multitasky.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import seedu.multitasky.model.EntryBook;
+import seedu.multitasky.model.ReadOnlyEntryBook;
+
+public class AsyncEntryBookSaverTest {
+
+    private final List<ReadOnlyEntryBook> savedEntryBooks = Collections.synchronizedList(new ArrayList<>());
+    private final List<Long> savedVersions = Collections.synchronizedList(new ArrayList<>());
+    private final List<Long> failedVersions = Collections.synchronizedList(new ArrayList<>());
+
+    private final AsyncEntryBookSaver.SaveListener listener = new AsyncEntryBookSaver.SaveListener() {
+        @Override
+        public void saved(long version, long pendingVersions) {
+            savedVersions.add(version);
+        }
+
+        @Override
+        public void failed(long version, IOException exception) {
+            failedVersions.add(version);
+        }
+    };
+
+    @Test
+    public void submit_burstOfVersions_onlyLatestSaved() {
+        // A window long enough for the whole burst to fall within it
+        AsyncEntryBookSaver saver = new AsyncEntryBookSaver(savedEntryBooks::add, listener, 60000);
+        EntryBook latest = null;
+        for (int i = 0; i < 10; ++i) {
+            latest = new EntryBook();
+            saver.submit(latest, i + 1);
+        }
+        assertEquals(10, saver.getPendingVersions());
+
+        saver.flush();
+        assertEquals(1, savedEntryBooks.size());
+        assertSame(latest, savedEntryBooks.get(0));
+        assertEquals(Collections.singletonList(10L), savedVersions);
+        assertEquals(0, saver.getPendingVersions());
+
+        // Nothing is left to save when the window closes
+        saver.flush();
+        assertEquals(1, savedEntryBooks.size());
+    }
+
+    @Test
+    public void flush_saveFails_failureReportedAndVersionNotSaved() {
+        AsyncEntryBookSaver saver = new AsyncEntryBookSaver(entryBook -> {
+            throw new IOException("dummy exception");
+        }, listener, 60000);
+        saver.submit(new EntryBook(), 1);
+        saver.flush();
+        assertEquals(Collections.singletonList(1L), failedVersions);
+        assertEquals(0, saver.getLastSavedVersion());
+        assertEquals(1, saver.getPendingVersions());
+    }
+
+    @Test
+    public void flush_afterFailedSave_failedVersionSavedAgain() {
+        AtomicBoolean isFailing = new AtomicBoolean(true);
+        AsyncEntryBookSaver saver = new AsyncEntryBookSaver(entryBook -> {
+            if (isFailing.get()) {
+                throw new IOException("dummy exception");
+            }
+            savedEntryBooks.add(entryBook);
+        }, listener, 60000);
+        EntryBook entryBook = new EntryBook();
+        saver.submit(entryBook, 5);
+        saver.flush();
+        assertEquals(Collections.singletonList(5L), failedVersions);
+
+        isFailing.set(false);
+        saver.flush();
+        assertEquals(1, savedEntryBooks.size());
+        assertSame(entryBook, savedEntryBooks.get(0));
+        assertEquals(Collections.singletonList(5L), savedVersions);
+        assertEquals(5, saver.getLastSavedVersion());
+        assertEquals(0, saver.getPendingVersions());
+    }
+
+}
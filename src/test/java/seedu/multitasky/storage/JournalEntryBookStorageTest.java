@@ -0,0 +1,221 @@
+package seedu.multitasky.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Calendar;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.multitasky.model.EntryBook;
+import seedu.multitasky.model.ReadOnlyEntryBook;
+import seedu.multitasky.model.entry.Deadline;
+import seedu.multitasky.model.entry.Entry;
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+import seedu.multitasky.model.entry.util.Comparators;
+import seedu.multitasky.model.util.EntryBuilder;
+import seedu.multitasky.testutil.SyntheticEntryBookBuilder;
+import seedu.multitasky.testutil.TypicalEntriesForStorage;
+
+public class JournalEntryBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readEntryBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalEntryBookStorage(getFilePath()).readEntryBook().isPresent());
+    }
+
+    @Test
+    public void saveEntryBook_changesAppended_readBackFromJournal() throws Exception {
+        String filePath = getFilePath();
+        EntryBook original = new SyntheticEntryBookBuilder(1).withEntries(30).withStates(0.2, 0.2).build();
+        JournalEntryBookStorage storage = new JournalEntryBookStorage(filePath);
+        storage.saveEntryBook(original.getSnapshot());
+        assertTrue(JournalEntryBookStorage.getCheckpointFile(filePath).exists());
+
+        modify(original);
+        storage.saveEntryBook(original.getSnapshot());
+        assertTrue(JournalEntryBookStorage.getJournalFile(filePath, 0).exists());
+        assertFalse(new File(filePath).exists());
+
+        ReadOnlyEntryBook readBack = new JournalEntryBookStorage(filePath).readEntryBook().get();
+        assertEquals(original, new EntryBook(readBack));
+    }
+
+    @Test
+    public void saveEntryBook_checkpointIntervalReached_readBackFromCheckpoint() throws Exception {
+        String filePath = getFilePath();
+        EntryBook original = new SyntheticEntryBookBuilder(2).withEntries(30).build();
+        JournalEntryBookStorage storage = new JournalEntryBookStorage(filePath, 2);
+        storage.saveEntryBook(original.getSnapshot());
+        for (int i = 0; i < 5; ++i) {
+            original.addEntry(EntryBuilder.build("added entry " + i, "tag" + i));
+            storage.saveEntryBook(original.getSnapshot());
+        }
+
+        ReadOnlyEntryBook readBack = new JournalEntryBookStorage(filePath, 2).readEntryBook().get();
+        assertEquals(original, new EntryBook(readBack));
+    }
+
+    @Test
+    public void readEntryBook_checkpointWithoutJournal_laterSavesReadBack() throws Exception {
+        String filePath = getFilePath();
+        EntryBook original = new SyntheticEntryBookBuilder(8).withEntries(30).build();
+        new JournalEntryBookStorage(filePath).saveEntryBook(original.getSnapshot());
+
+        // Each session reads the entry book back, then adds an entry
+        for (int session = 0; session < 3; ++session) {
+            JournalEntryBookStorage reopened = new JournalEntryBookStorage(filePath);
+            assertEquals(original, new EntryBook(reopened.readEntryBook().get()));
+            original.addEntry(EntryBuilder.build("added in session " + session));
+            reopened.saveEntryBook(original.getSnapshot());
+        }
+        assertEquals(original, new EntryBook(new JournalEntryBookStorage(filePath).readEntryBook().get()));
+    }
+
+    @Test
+    public void readEntryBook_intervalCheckpointWithoutJournal_laterSavesReadBack() throws Exception {
+        String filePath = getFilePath();
+        EntryBook original = new SyntheticEntryBookBuilder(9).withEntries(30).build();
+        JournalEntryBookStorage storage = new JournalEntryBookStorage(filePath, 2);
+        storage.saveEntryBook(original.getSnapshot());
+        // Two saves of one record each, after which a checkpoint is written for the next journal
+        for (int i = 0; i < 2; ++i) {
+            original.addEntry(EntryBuilder.build("added entry " + i));
+            storage.saveEntryBook(original.getSnapshot());
+        }
+
+        for (int session = 0; session < 3; ++session) {
+            JournalEntryBookStorage reopened = new JournalEntryBookStorage(filePath, 2);
+            assertEquals(original, new EntryBook(reopened.readEntryBook().get()));
+            original.addEntry(EntryBuilder.build("added in session " + session));
+            reopened.saveEntryBook(original.getSnapshot());
+        }
+        assertEquals(original, new EntryBook(new JournalEntryBookStorage(filePath, 2).readEntryBook().get()));
+    }
+
+    @Test
+    public void readEntryBook_incompleteSaveAtEnd_ignored() throws Exception {
+        String filePath = getFilePath();
+        EntryBook original = new SyntheticEntryBookBuilder(3).withEntries(30).build();
+        JournalEntryBookStorage storage = new JournalEntryBookStorage(filePath);
+        storage.saveEntryBook(original.getSnapshot());
+        modify(original);
+        storage.saveEntryBook(original.getSnapshot());
+
+        // An add record cut short, without its commit record
+        Files.write(JournalEntryBookStorage.getJournalFile(filePath, 0).toPath(), new byte[] { 'A', 0, 0, 0 },
+                    StandardOpenOption.APPEND);
+
+        JournalEntryBookStorage reopened = new JournalEntryBookStorage(filePath);
+        assertEquals(original, new EntryBook(reopened.readEntryBook().get()));
+
+        // Saves after reopening are read back after the earlier journal
+        original.addEntry(EntryBuilder.build("after reopening"));
+        reopened.saveEntryBook(original.getSnapshot());
+        assertEquals(original, new EntryBook(new JournalEntryBookStorage(filePath).readEntryBook().get()));
+    }
+
+    @Test
+    public void readEntryBook_completeRecordsWithoutCommit_ignored() throws Exception {
+        String filePath = getFilePath();
+        EntryBook original = new SyntheticEntryBookBuilder(7).withEntries(30).build();
+        JournalEntryBookStorage storage = new JournalEntryBookStorage(filePath);
+        storage.saveEntryBook(original.getSnapshot());
+        modify(original);
+        storage.saveEntryBook(original.getSnapshot());
+
+        // Removals of the first event and first deadline, of which the save was cut short before its commit record
+        Files.write(JournalEntryBookStorage.getJournalFile(filePath, 0).toPath(),
+                    new byte[] { 'R', 0, 0, 0, 0, 0, 0, 0, 0, 1, 'R', 1, 0, 0, 0, 0, 0, 0, 0, 1 },
+                    StandardOpenOption.APPEND);
+
+        assertEquals(original, new EntryBook(new JournalEntryBookStorage(filePath).readEntryBook().get()));
+    }
+
+    @Test
+    public void readEntryBook_xmlFileReplaced_imported() throws Exception {
+        String filePath = getFilePath();
+        JournalEntryBookStorage storage = new JournalEntryBookStorage(filePath);
+        storage.saveEntryBook(new SyntheticEntryBookBuilder(4).withEntries(30).build());
+
+        EntryBook replacement = new TypicalEntriesForStorage().getTypicalEntryBook();
+        new XmlEntryBookStorage(filePath).saveEntryBook(replacement);
+        assertEquals(replacement, new EntryBook(storage.readEntryBook().get()));
+    }
+
+    @Test
+    public void saveEntryBook_otherFilePath_exportedAsXml() throws Exception {
+        String exportPath = testFolder.getRoot().getPath() + "/export.xml";
+        EntryBook original = new TypicalEntriesForStorage().getTypicalEntryBook();
+        new JournalEntryBookStorage(getFilePath()).saveEntryBook(original, exportPath);
+        assertEquals(original, new EntryBook(new XmlEntryBookStorage(exportPath).readEntryBook().get()));
+    }
+
+    @Test
+    public void saveEntryBook_entryMovedAcrossList_journaledAsRemoveAndAdd() throws Exception {
+        String filePath = getFilePath();
+        EntryBook original = new SyntheticEntryBookBuilder(5).withDeadlines(300).build();
+        JournalEntryBookStorage storage = new JournalEntryBookStorage(filePath);
+        storage.saveEntryBook(original.getSnapshot());
+
+        // The earliest deadline becomes the latest, moving past every other deadline
+        List<ReadOnlyEntry> deadlines = original.getDeadlineList();
+        ReadOnlyEntry first = deadlines.get(0);
+        Deadline moved = (Deadline) EntryBuilder.build(first);
+        Calendar end = (Calendar) deadlines.get(deadlines.size() - 1).getEndDateAndTime().clone();
+        end.add(Calendar.DATE, 1);
+        moved.setEndDateAndTime(end);
+        original.updateEntry(first, moved);
+        storage.saveEntryBook(original.getSnapshot());
+
+        // The journal header, one removal and one addition rather than a record for every deadline
+        assertTrue(JournalEntryBookStorage.getJournalFile(filePath, 0).length() < 500);
+        ReadOnlyEntryBook readBack = new JournalEntryBookStorage(filePath).readEntryBook().get();
+        assertEquals(original.getDeadlineList(), readBack.getDeadlineList());
+    }
+
+    @Test
+    public void saveEntryBook_entriesReordered_readBackInNewOrder() throws Exception {
+        String filePath = getFilePath();
+        EntryBook original = new SyntheticEntryBookBuilder(6).withEntries(60).build();
+        JournalEntryBookStorage storage = new JournalEntryBookStorage(filePath);
+        storage.saveEntryBook(original.getSnapshot());
+
+        original.setComparators(Comparators.EVENT_REVERSE, Comparators.DEADLINE_REVERSE,
+                                Comparators.FLOATING_TASK_REVERSE);
+        original.removeEntry(original.getEventList().get(2));
+        storage.saveEntryBook(original.getSnapshot());
+
+        ReadOnlyEntryBook readBack = new JournalEntryBookStorage(filePath).readEntryBook().get();
+        assertEquals(original.getEventList(), readBack.getEventList());
+        assertEquals(original.getDeadlineList(), readBack.getDeadlineList());
+        assertEquals(original.getFloatingTaskList(), readBack.getFloatingTaskList());
+    }
+
+    /**
+     * Adds, removes, updates and changes the state of entries in {@code entryBook}.
+     */
+    private static void modify(EntryBook entryBook) throws Exception {
+        entryBook.addEntry(EntryBuilder.build("new floating task", "tag1"));
+        ReadOnlyEntry deadline = entryBook.getDeadlineList().get(3);
+        entryBook.changeEntryState(deadline, Entry.State.ARCHIVED);
+        ReadOnlyEntry floatingTask = entryBook.getFloatingTaskList().get(0);
+        entryBook.updateEntry(floatingTask, EntryBuilder.build("renamed floating task", "tag2"));
+        entryBook.removeEntry(entryBook.getEventList().get(5));
+    }
+
+    private String getFilePath() {
+        return testFolder.getRoot().getPath() + "/entrybook.xml";
+    }
+
+}
@@ -6,6 +6,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -15,8 +16,7 @@ import org.junit.rules.TemporaryFolder;
 
 import seedu.multitasky.commons.events.model.EntryBookChangedEvent;
 import seedu.multitasky.commons.events.storage.DataSavingExceptionEvent;
-import seedu.multitasky.commons.events.storage.EntryBookToRedoEvent;
-import seedu.multitasky.commons.events.storage.EntryBookToUndoEvent;
+import seedu.multitasky.commons.events.storage.EntryBookSaveStatusChangedEvent;
 import seedu.multitasky.commons.events.storage.FilePathChangedEvent;
 import seedu.multitasky.commons.events.storage.LoadDataFromFilePathEvent;
 import seedu.multitasky.commons.util.FileUtil;
@@ -24,6 +24,7 @@ import seedu.multitasky.model.EntryBook;
 import seedu.multitasky.model.ReadOnlyEntryBook;
 import seedu.multitasky.model.StorageUserPrefs;
 import seedu.multitasky.model.UserPrefs;
+import seedu.multitasky.model.util.EntryBuilder;
 import seedu.multitasky.testutil.EventsCollector;
 import seedu.multitasky.testutil.SampleEntries;
 
@@ -74,32 +75,6 @@ public class StorageManagerTest {
         assertEquals(storageManager.getEntryBookFilePath(), "default.xml");
     }
 
-    @Test
-    public void getEntryBookSnapshotPath() {
-        assertNotNull(storageManager.getEntryBookSnapshotPath());
-    }
-
-    @Test
-    public void setIndex() {
-        StorageManager.setIndex(100);
-        assertEquals(StorageManager.getIndex(), 100);
-    }
-
-    @Test
-    public void getPreviousEntryBookSnapshotPath() {
-        assertNotNull(storageManager.getPreviousEntryBookSnapshotPath());
-    }
-
-    @Test
-    public void getNextEntryBookSnapshotPath() {
-        assertNotNull(storageManager.getNextEntryBookSnapshotPath());
-    }
-
-    @Test
-    public void setEntryBookSnapshotPathAndUpdateIndex() {
-        assertNotNull(storageManager.setEntryBookSnapshotPathAndUpdateIndex());
-    }
-
     @Test
     public void saveEntryBook() throws IOException {
         ReadOnlyEntryBook currentList = SampleEntries.getSampleEntryBook();
@@ -107,13 +82,6 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getEntryBookFilePath());
     }
 
-    @Test
-    public void saveEntryBookSnapshot() throws IOException {
-        ReadOnlyEntryBook currentList = SampleEntries.getSampleEntryBook();
-        storageManager.saveEntryBookSnapshot(currentList);
-        assertNotNull(storageManager.setEntryBookSnapshotPathAndUpdateIndex());
-    }
-
     @Test
     public void loadDataFromFile_success() throws Exception {
         assertTrue(readEntryBook("sample.xml").isPresent());
@@ -136,42 +104,31 @@ public class StorageManagerTest {
     }
 
     @Test
-    public void handleEntryBookToUndoEvent_success() throws Exception {
-        EntryBookToUndoEvent event = new EntryBookToUndoEvent(SampleEntries.getSampleEntryBook(), " ");
-        storageManager.handleEntryBookToUndoEvent(event);
-        assertNotNull(event.getData());
+    public void handleFilePathChangedEvent_success() throws Exception {
+        FilePathChangedEvent event = new FilePathChangedEvent(SampleEntries.getSampleEntryBook(), "newfile.xml");
+        storageManager.handleFilePathChangedEvent(event);
+        assertEquals(storageManager.getEntryBookFilePath(), "newfile.xml");
     }
 
     @Test
-    public void handleEntryBookToUndoEvent_failure() throws Exception {
-        storageManager.setPreviousEntryBookSnapshotPath("dummyUndo");
-        EntryBookToUndoEvent event = new EntryBookToUndoEvent(new EntryBook(), "dummyUndo");
-        storageManager.handleEntryBookToUndoEvent(event);
-        assertEquals(event.getMessage(), "Nothing to undo");
-    }
+    public void handleFilePathChangedEvent_journalStorage_xmlWrittenAndChangesKept() throws Exception {
+        String oldFilePath = getTempFilePath("old.xml");
+        String newFilePath = getTempFilePath("new.xml");
+        storageManager = new StorageManager(new JournalEntryBookStorage(oldFilePath),
+                                            new JsonUserPrefsStorage(getTempFilePath("prefs")), new UserPrefs());
+        EntryBook entryBook = new EntryBook(SampleEntries.getSampleEntryBook());
+        storageManager.saveEntryBook(entryBook.getSnapshot());
 
-    @Test
-    public void handleEntryBookToRedoEvent_success() throws Exception {
-        EntryBookToUndoEvent eventUndo = new EntryBookToUndoEvent(SampleEntries.getSampleEntryBook(), " ");
-        storageManager.handleEntryBookToUndoEvent(eventUndo);
-        EntryBookToRedoEvent eventRedo = new EntryBookToRedoEvent(SampleEntries.getSampleEntryBook(), " ");
-        storageManager.handleEntryBookToRedoEvent(eventRedo);
-        assertNotNull(eventRedo.getData());
-    }
+        storageManager.handleFilePathChangedEvent(new FilePathChangedEvent(entryBook.getSnapshot(), newFilePath));
+        assertEquals(newFilePath, storageManager.getEntryBookFilePath());
+        assertEquals(entryBook, new EntryBook(new XmlEntryBookStorage(newFilePath).readEntryBook().get()));
 
-    @Test
-    public void handleEntryBookToRedoEvent_failure() throws Exception {
-        storageManager.setNextEntryBookSnapshotPath("dummyRedo");
-        EntryBookToRedoEvent event = new EntryBookToRedoEvent(new EntryBook(), "dummyRedo");
-        storageManager.handleEntryBookToRedoEvent(event);
-        assertEquals(event.getMessage(), "Nothing to redo");
-    }
-
-    @Test
-    public void handleFilePathChangedEvent_success() throws Exception {
-        FilePathChangedEvent event = new FilePathChangedEvent(SampleEntries.getSampleEntryBook(), "newfile.xml");
-        storageManager.handleFilePathChangedEvent(event);
-        assertEquals(storageManager.getEntryBookFilePath(), "newfile.xml");
+        // Later changes are saved from the new data file, which is not imported over them
+        entryBook.addEntry(EntryBuilder.build("after save"));
+        storageManager.saveEntryBook(entryBook.getSnapshot());
+        entryBook.addEntry(EntryBuilder.build("after next save"));
+        storageManager.saveEntryBook(entryBook.getSnapshot());
+        assertEquals(entryBook, new EntryBook(new JournalEntryBookStorage(newFilePath).readEntryBook().get()));
     }
 
     @Test
@@ -199,7 +156,19 @@ public class StorageManagerTest {
                 new JsonUserPrefsStorage("dummy"), new UserPrefs());
         EventsCollector eventCollector = new EventsCollector();
         storage.handleEntryBookChangedEvent(new EntryBookChangedEvent(new EntryBook()));
-        assertTrue(eventCollector.get(0) instanceof DataSavingExceptionEvent);
+        storage.flushPendingSaves();
+        assertTrue(eventCollector.contains(DataSavingExceptionEvent.class));
+    }
+
+    @Test
+    public void handleEntryBookChangedEvent_versionOfEntryBook_reportedAsSaved() {
+        EventsCollector eventCollector = new EventsCollector();
+        storageManager.handleEntryBookChangedEvent(new EntryBookChangedEvent(new EntryBook(), 7));
+        storageManager.flushPendingSaves();
+        List<EntryBookSaveStatusChangedEvent> statuses = eventCollector.getAll(EntryBookSaveStatusChangedEvent.class);
+        EntryBookSaveStatusChangedEvent latest = statuses.get(statuses.size() - 1);
+        assertEquals(7, latest.lastSavedVersion);
+        assertEquals(0, latest.pendingVersions);
     }
 
     /***************************
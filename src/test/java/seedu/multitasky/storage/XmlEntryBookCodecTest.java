@@ -0,0 +1,99 @@
+package seedu.multitasky.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.multitasky.commons.exceptions.DataConversionException;
+import seedu.multitasky.commons.util.FileUtil;
+import seedu.multitasky.commons.util.XmlUtil;
+import seedu.multitasky.model.EntryBook;
+import seedu.multitasky.model.ReadOnlyEntryBook;
+import seedu.multitasky.testutil.SyntheticEntryBookBuilder;
+import seedu.multitasky.testutil.TypicalEntriesForStorage;
+
+public class XmlEntryBookCodecTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void write_entryBook_readBackByCodecAndJaxb() throws Exception {
+        EntryBook original = new SyntheticEntryBookBuilder(1).withEntries(2500).withStates(0.2, 0.2).build();
+        File file = testFolder.newFile("entrybook.xml");
+        XmlEntryBookCodec.write(file, original);
+
+        assertEquals(original, new EntryBook(XmlEntryBookCodec.read(file)));
+        assertEquals(original, new EntryBook(XmlUtil.getDataFromFile(file, XmlSerializableEntryBook.class)));
+    }
+
+    @Test
+    public void write_entryBook_sameAsJaxb() throws Exception {
+        EntryBook original = new TypicalEntriesForStorage().getTypicalEntryBook();
+        File file = testFolder.newFile("entrybook.xml");
+        XmlUtil.saveDataToFile(file, new XmlSerializableEntryBook(original));
+
+        StringWriter written = new StringWriter();
+        XmlEntryBookCodec.write(written, original);
+        assertEquals(FileUtil.readFromFile(file).replace("\r\n", "\n"), written.toString());
+    }
+
+    @Test
+    public void read_unknownElementsAndMisplacedEntries_skippedAndSorted() throws Exception {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                   + "<entrybook>\n"
+                   + "  <entries><name>not an entry</name></entries>\n"
+                   + "  <!-- comment -->\n"
+                   + "  <events><name>floating</name><state>ARCHIVED</state><tagged>tag1</tagged></events>\n"
+                   + "  <floatingTasks><name>deadline</name><endDateAndTime>01/02/17 13:00</endDateAndTime>"
+                   + "</floatingTasks>\n"
+                   + "  <tags>tag1</tags>\n"
+                   + "</entrybook>\n";
+        ReadOnlyEntryBook entryBook = read(xml);
+        assertTrue(entryBook.getEventList().isEmpty());
+        assertEquals("deadline", entryBook.getDeadlineList().get(0).getName().fullName);
+        assertEquals("floating", entryBook.getFloatingTaskList().get(0).getName().fullName);
+        assertEquals(1, entryBook.getTagList().size());
+    }
+
+    @Test
+    public void read_invalidDate_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        read("<entrybook><deadlines><name>a</name><endDateAndTime>32/13/17 25:00</endDateAndTime>"
+             + "</deadlines></entrybook>");
+    }
+
+    @Test
+    public void read_invalidEntryAfterFirstChunk_throwsDataConversionException() throws Exception {
+        StringBuilder xml = new StringBuilder("<entrybook>");
+        for (int i = 0; i < 3000; ++i) {
+            xml.append("<floatingTasks><name>").append(i == 2500 ? "" : "task " + i).append("</name></floatingTasks>");
+        }
+        xml.append("</entrybook>");
+        thrown.expect(DataConversionException.class);
+        read(xml.toString());
+    }
+
+    @Test
+    public void read_otherRootElement_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        read("<undohistory></undohistory>");
+    }
+
+    private static ReadOnlyEntryBook read(String xml) throws DataConversionException {
+        return XmlEntryBookCodec.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
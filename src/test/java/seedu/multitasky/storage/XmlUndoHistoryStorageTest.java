@@ -0,0 +1,53 @@
+package seedu.multitasky.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.multitasky.model.EntryBook;
+import seedu.multitasky.model.ModelManager;
+import seedu.multitasky.model.UndoHistory;
+import seedu.multitasky.model.UserPrefs;
+import seedu.multitasky.model.entry.Entry;
+import seedu.multitasky.model.util.EntryBuilder;
+import seedu.multitasky.testutil.SyntheticEntryBookBuilder;
+
+public class XmlUndoHistoryStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readUndoHistory_missingFile_historyUnchanged() throws Exception {
+        UndoHistory history = new UndoHistory();
+        new XmlUndoHistoryStorage(getFilePath()).readUndoHistory(history);
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void saveUndoHistory_changesRecorded_undoneAfterReadBack() throws Exception {
+        SyntheticEntryBookBuilder builder = new SyntheticEntryBookBuilder(1).withEntries(30);
+        UndoHistory history = new UndoHistory();
+        ModelManager model = new ModelManager(builder.build(), new UserPrefs(), history);
+        model.addEntry(EntryBuilder.build("new floating task", "newtag"));
+        model.changeEntryState(model.getEntryBook().getDeadlineList().get(3), Entry.State.ARCHIVED);
+        model.deleteEntry(model.getEntryBook().getEventList().get(5));
+        new XmlUndoHistoryStorage(getFilePath()).saveUndoHistory(history);
+
+        UndoHistory readBack = new UndoHistory();
+        new XmlUndoHistoryStorage(getFilePath()).readUndoHistory(readBack);
+        ModelManager reopened = new ModelManager(new EntryBook(model.getEntryBook()), new UserPrefs(), readBack);
+        for (int i = 0; i < 3; ++i) {
+            reopened.undoPreviousAction();
+        }
+        assertEquals(builder.build(), new EntryBook(reopened.getEntryBook()));
+    }
+
+    private String getFilePath() {
+        return testFolder.getRoot().getPath() + "/undohistory.xml";
+    }
+
+}
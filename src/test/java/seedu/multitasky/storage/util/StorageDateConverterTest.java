@@ -1,5 +1,10 @@
 package seedu.multitasky.storage.util;
 
+import static org.junit.Assert.assertEquals;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -30,4 +35,27 @@ public class StorageDateConverterTest {
         storageDateConverter.convertStringToDate("dummy");
     }
 
+    @Test
+    public void convertDateToString_validDate_fixedWidth() {
+        assertEquals("05/03/17 09:07",
+                     storageDateConverter.convertDateToString(new GregorianCalendar(2017, Calendar.MARCH, 5, 9, 7)));
+    }
+
+    @Test
+    public void convertStringToDate_validDates_parsed() throws Exception {
+        assertEquals(new GregorianCalendar(2017, Calendar.MARCH, 5, 9, 7),
+                     storageDateConverter.convertStringToDate("05/03/17 09:07"));
+        assertEquals(new GregorianCalendar(2017, Calendar.MARCH, 5, 9, 7),
+                     storageDateConverter.convertStringToDate("5/3/2017 9:07"));
+        assertEquals(new GregorianCalendar(2020, Calendar.FEBRUARY, 29, 23, 59),
+                     storageDateConverter.convertStringToDate("29/02/20 23:59"));
+    }
+
+    @Test
+    public void convertStringToDate_dayNotInMonth_error() throws Exception {
+        thrown.expect(Exception.class);
+        thrown.expectMessage("Unable to set the time!");
+        storageDateConverter.convertStringToDate("29/02/17 10:00");
+    }
+
 }
@@ -1,7 +1,9 @@
 package seedu.multitasky.testutil;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import com.google.common.eventbus.Subscribe;
 
@@ -12,7 +14,8 @@ import seedu.multitasky.commons.events.BaseEvent;
  * A class that collects events raised by other classes.
  */
 public class EventsCollector {
-    private List<BaseEvent> events = new ArrayList<BaseEvent>();
+    /** Events may be raised on background threads, such as the storage writer thread. */
+    private List<BaseEvent> events = Collections.synchronizedList(new ArrayList<BaseEvent>());
 
     public EventsCollector() {
         EventsCenter.getInstance().registerHandler(this);
@@ -39,4 +42,22 @@ public class EventsCollector {
     public BaseEvent get(int index) {
         return events.get(index);
     }
+
+    /**
+     * Returns true if an event of the given type has been collected
+     */
+    public boolean contains(Class<? extends BaseEvent> eventType) {
+        synchronized (events) {
+            return events.stream().anyMatch(eventType::isInstance);
+        }
+    }
+
+    /**
+     * Returns the collected events of the given type, in the order they were raised
+     */
+    public <T extends BaseEvent> List<T> getAll(Class<T> eventType) {
+        synchronized (events) {
+            return events.stream().filter(eventType::isInstance).map(eventType::cast).collect(Collectors.toList());
+        }
+    }
 }
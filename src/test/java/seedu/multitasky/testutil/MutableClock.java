@@ -0,0 +1,31 @@
+package seedu.multitasky.testutil;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * A clock in the system time zone that starts at the current time and is only moved forward by the test.
+ */
+public class MutableClock extends Clock {
+    private Instant instant = Instant.now();
+
+    public void advanceMinutes(long minutes) {
+        instant = instant.plusSeconds(60 * minutes);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneId.systemDefault();
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
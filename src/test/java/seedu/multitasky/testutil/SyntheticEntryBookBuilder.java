@@ -0,0 +1,225 @@
+package seedu.multitasky.testutil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Random;
+
+import seedu.multitasky.commons.exceptions.IllegalValueException;
+import seedu.multitasky.model.EntryBook;
+import seedu.multitasky.model.EntryBookSnapshot;
+import seedu.multitasky.model.entry.Entry;
+import seedu.multitasky.model.entry.ReadOnlyEntry;
+import seedu.multitasky.model.entry.util.PersistentList;
+import seedu.multitasky.model.util.EntryBuilder;
+import seedu.multitasky.storage.XmlEntryBookStorage;
+
+/**
+ * A utility class to build large entry books of made-up entries, for benchmarks and stress tests.
+ * The same seed and settings always build the same entries.
+ *
+ * Each entry is named with random words and a number that keeps its name unique, and is given tags drawn from
+ * a Zipf distribution, so that a few tags are on many entries and most tags are on few, as with real tags.
+ * Events and deadlines are spread an hour apart from the start date, and a given fraction of events overlap
+ * the event before them.
+ */
+public class SyntheticEntryBookBuilder {
+
+    public static final String[] WORDS = { "buy", "milk", "meeting", "project", "report", "call", "mom", "gym",
+                                           "read", "book", "pay", "bills", "clean", "room", "email", "boss",
+                                           "submit", "assignment", "lecture", "dinner" };
+
+    private static final long HOUR_IN_MILLIS = 60 * 60 * 1000L;
+
+    private final long seed;
+    private int events;
+    private int deadlines;
+    private int floatingTasks;
+    private int tags = 20;
+    private double tagExponent = 1.0;
+    private int maxTagsPerEntry = 2;
+    private double archivedFraction;
+    private double deletedFraction;
+    private double overlapFraction;
+    private Calendar startDate = new GregorianCalendar(2030, Calendar.JANUARY, 1);
+
+    public SyntheticEntryBookBuilder(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of entries, split equally between events, deadlines and floating tasks.
+     */
+    public SyntheticEntryBookBuilder withEntries(int entries) {
+        return withEvents(entries / 3).withDeadlines(entries / 3).withFloatingTasks(entries - entries / 3 * 2);
+    }
+
+    public SyntheticEntryBookBuilder withEvents(int events) {
+        this.events = events;
+        return this;
+    }
+
+    public SyntheticEntryBookBuilder withDeadlines(int deadlines) {
+        this.deadlines = deadlines;
+        return this;
+    }
+
+    public SyntheticEntryBookBuilder withFloatingTasks(int floatingTasks) {
+        this.floatingTasks = floatingTasks;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct tags, the exponent of their Zipf distribution, where the k-th most common tag
+     * is drawn with weight 1/k^exponent, and the most tags each entry is given.
+     */
+    public SyntheticEntryBookBuilder withTags(int tags, double exponent, int maxTagsPerEntry) {
+        this.tags = tags;
+        this.tagExponent = exponent;
+        this.maxTagsPerEntry = maxTagsPerEntry;
+        return this;
+    }
+
+    /**
+     * Sets the fractions of entries that are archived and deleted. The remaining entries are active.
+     */
+    public SyntheticEntryBookBuilder withStates(double archivedFraction, double deletedFraction) {
+        if (archivedFraction < 0 || deletedFraction < 0 || archivedFraction + deletedFraction > 1) {
+            throw new IllegalArgumentException("State fractions must be between 0 and 1 in total");
+        }
+        this.archivedFraction = archivedFraction;
+        this.deletedFraction = deletedFraction;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of events that overlap the event before them.
+     */
+    public SyntheticEntryBookBuilder withOverlappingEvents(double overlapFraction) {
+        this.overlapFraction = overlapFraction;
+        return this;
+    }
+
+    /**
+     * Sets the date and time of the first event and deadline.
+     */
+    public SyntheticEntryBookBuilder withStartDate(Calendar startDate) {
+        this.startDate = (Calendar) startDate.clone();
+        return this;
+    }
+
+    public EntryBook build() throws IllegalValueException {
+        Random random = new Random(seed);
+        double[] tagWeights = buildCumulativeZipfWeights();
+        long start = startDate.getTimeInMillis();
+        int number = 0;
+
+        List<ReadOnlyEntry> eventList = new ArrayList<>(events);
+        long eventStart = start;
+        for (int i = 0; i < events; ++i) {
+            if (i > 0 && random.nextDouble() >= overlapFraction) {
+                eventStart += 2 * HOUR_IN_MILLIS; // Past the end of the previous event
+            } else if (i > 0) {
+                eventStart += HOUR_IN_MILLIS / 2; // Within the previous event
+            }
+            Entry event = EntryBuilder.build(randomName(random, number++), toCalendar(eventStart),
+                                             toCalendar(eventStart + HOUR_IN_MILLIS),
+                                             randomTags(random, tagWeights));
+            eventList.add(withRandomState(random, event));
+        }
+
+        List<ReadOnlyEntry> deadlineList = new ArrayList<>(deadlines);
+        for (int i = 0; i < deadlines; ++i) {
+            Entry deadline = EntryBuilder.build(randomName(random, number++),
+                                                toCalendar(start + i * HOUR_IN_MILLIS),
+                                                randomTags(random, tagWeights));
+            deadlineList.add(withRandomState(random, deadline));
+        }
+
+        List<ReadOnlyEntry> floatingTaskList = new ArrayList<>(floatingTasks);
+        for (int i = 0; i < floatingTasks; ++i) {
+            Entry floatingTask = EntryBuilder.build(randomName(random, number++), randomTags(random, tagWeights));
+            floatingTaskList.add(withRandomState(random, floatingTask));
+        }
+
+        return new EntryBook(new EntryBookSnapshot(PersistentList.of(eventList), PersistentList.of(deadlineList),
+                                                   PersistentList.of(floatingTaskList), new ArrayList<>()));
+    }
+
+    /**
+     * Builds the entry book and saves it as an XML data file at {@code filePath}.
+     */
+    public EntryBook buildToFile(String filePath) throws IllegalValueException, IOException {
+        EntryBook entryBook = build();
+        new XmlEntryBookStorage(filePath).saveEntryBook(entryBook);
+        return entryBook;
+    }
+
+    // ================= Random Data =================
+
+    private static String randomName(Random random, int number) {
+        return WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + number;
+    }
+
+    /**
+     * Returns the running totals of the Zipf weights of the tags, for drawing tags by binary search.
+     */
+    private double[] buildCumulativeZipfWeights() {
+        double[] cumulativeWeights = new double[tags];
+        double total = 0;
+        for (int k = 0; k < tags; ++k) {
+            total += 1 / Math.pow(k + 1, tagExponent);
+            cumulativeWeights[k] = total;
+        }
+        return cumulativeWeights;
+    }
+
+    private String[] randomTags(Random random, double[] cumulativeWeights) {
+        if (tags == 0) {
+            return new String[0];
+        }
+        int count = random.nextInt(maxTagsPerEntry + 1);
+        String[] entryTags = new String[count];
+        for (int i = 0; i < count; ++i) {
+            double weight = random.nextDouble() * cumulativeWeights[tags - 1];
+            int index = Arrays.binarySearch(cumulativeWeights, weight);
+            entryTags[i] = "tag" + (index >= 0 ? index : -index - 1);
+        }
+        return entryTags;
+    }
+
+    private Entry withRandomState(Random random, Entry entry) {
+        double draw = random.nextDouble();
+        if (draw < archivedFraction) {
+            entry.setState(Entry.State.ARCHIVED);
+        } else if (draw < archivedFraction + deletedFraction) {
+            entry.setState(Entry.State.DELETED);
+        }
+        return entry;
+    }
+
+    private static Calendar toCalendar(long millis) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(millis);
+        return calendar;
+    }
+
+    /**
+     * Writes a synthetic entry book to an XML data file, for trying out the application with a large book.
+     * Usage: {@code SyntheticEntryBookBuilder <file path> <number of entries> [seed]}
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.out.println("Usage: SyntheticEntryBookBuilder <file path> <number of entries> [seed]");
+            return;
+        }
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        EntryBook entryBook = new SyntheticEntryBookBuilder(seed).withEntries(Integer.parseInt(args[1]))
+                .withStates(0.1, 0.05).withOverlappingEvents(0.1).buildToFile(args[0]);
+        System.out.println("Wrote " + entryBook + " to " + args[0]);
+    }
+
+}